@@ -0,0 +1,39 @@
+package com.ticket.benchmarks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AtomicInteger CAS 루프 - 티켓별 재고를 락 없이 차감 (lv2 InMemoryTicketInventory와 같은 방식)
+ */
+public class AtomicCasInventory implements TicketInventory {
+
+    private final AtomicInteger[] stocks;
+    private final int initialStock;
+
+    public AtomicCasInventory(int ticketCount, int stock) {
+        this.stocks = new AtomicInteger[ticketCount];
+        this.initialStock = stock;
+        for (int i = 0; i < ticketCount; i++) {
+            stocks[i] = new AtomicInteger(stock);
+        }
+    }
+
+    @Override
+    public boolean tryReserve(int ticketIndex) {
+        AtomicInteger stock = stocks[ticketIndex];
+        while (true) {
+            int current = stock.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (stock.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void restock(int ticketIndex) {
+        stocks[ticketIndex].compareAndSet(0, initialStock);
+    }
+}
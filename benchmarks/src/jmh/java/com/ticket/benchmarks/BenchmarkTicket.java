@@ -0,0 +1,47 @@
+package com.ticket.benchmarks;
+
+/**
+ * 벤치마크용 티켓 (도메인 Ticket의 재고 판정 로직만 옮겨 옴)
+ *
+ * - hasStock / decreaseStock 은 lv2~lv4 Ticket 엔티티와 같은 규칙
+ * - 동기화는 하지 않으며, 감싸는 TicketInventory 구현이 책임짐
+ */
+public class BenchmarkTicket {
+
+    private final int initialStock;
+    private int stock;
+    private int reservedCount;
+
+    public BenchmarkTicket(int stock) {
+        this.initialStock = stock;
+        this.stock = stock;
+        this.reservedCount = 0;
+    }
+
+    public boolean hasStock() {
+        return this.stock > 0;
+    }
+
+    public void decreaseStock() {
+        if (this.stock <= 0) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+        this.stock--;
+        this.reservedCount++;
+    }
+
+    /**
+     * 매진된 티켓을 다시 채움 (측정이 매진 상태에만 머물지 않도록)
+     */
+    public void restock() {
+        this.stock = initialStock;
+    }
+
+    public int getStock() {
+        return stock;
+    }
+
+    public int getReservedCount() {
+        return reservedCount;
+    }
+}
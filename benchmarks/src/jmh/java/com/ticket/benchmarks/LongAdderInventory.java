@@ -0,0 +1,49 @@
+package com.ticket.benchmarks;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LongAdder + 예약 후 확인 - 판매 수를 먼저 올리고 재고를 넘었으면 되돌림 (정확하지 않음)
+ *
+ * - 증가는 스레드별 셀로 분산되어 CAS 경합이 적음
+ * - 대신 sum()이 셀 수만큼 읽어야 하고, 재고 경계에서는 증가/감소가 한 번씩 더 발생
+ * - sum()은 원자적 스냅샷이 아니어서, 다른 스레드의 되돌림(감소)만 먼저 읽히면 재고를 넘겨 판매할 수 있음
+ *   -> 다른 구현과 판정 규칙이 같지 않으므로 기본 비교 대상에서 제외 (primitive=long-adder-approx로 직접 지정할 때만 실행)
+ */
+public class LongAdderInventory implements TicketInventory {
+
+    private final LongAdder[] sold;
+    private final int stock;
+
+    public LongAdderInventory(int ticketCount, int stock) {
+        this.sold = new LongAdder[ticketCount];
+        this.stock = stock;
+        for (int i = 0; i < ticketCount; i++) {
+            sold[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public boolean tryReserve(int ticketIndex) {
+        LongAdder counter = sold[ticketIndex];
+        if (counter.sum() >= stock) {
+            return false;
+        }
+        counter.increment();
+        if (counter.sum() > stock) {
+            counter.decrement();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void restock(int ticketIndex) {
+        LongAdder counter = sold[ticketIndex];
+        synchronized (counter) {
+            if (counter.sum() >= stock) {
+                counter.add(-stock);
+            }
+        }
+    }
+}
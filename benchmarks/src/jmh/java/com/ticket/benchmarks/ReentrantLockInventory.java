@@ -0,0 +1,44 @@
+package com.ticket.benchmarks;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ReentrantLock - 모든 티켓이 하나의 락을 공유 (synchronized와 범위는 같고 구현만 다름)
+ */
+public class ReentrantLockInventory implements TicketInventory {
+
+    private final BenchmarkTicket[] tickets;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ReentrantLockInventory(int ticketCount, int stock) {
+        this.tickets = Tickets.create(ticketCount, stock);
+    }
+
+    @Override
+    public boolean tryReserve(int ticketIndex) {
+        lock.lock();
+        try {
+            BenchmarkTicket ticket = tickets[ticketIndex];
+            if (!ticket.hasStock()) {
+                return false;
+            }
+            ticket.decreaseStock();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void restock(int ticketIndex) {
+        lock.lock();
+        try {
+            BenchmarkTicket ticket = tickets[ticketIndex];
+            if (!ticket.hasStock()) {
+                ticket.restock();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
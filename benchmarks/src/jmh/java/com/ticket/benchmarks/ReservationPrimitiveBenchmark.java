@@ -0,0 +1,80 @@
+package com.ticket.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예매 판정(hasStock + decreaseStock)을 동기화 기법별로 감쌌을 때의 처리량 비교
+ *
+ * - ticketCount: 요청이 나뉘는 티켓 수 (1이면 모든 스레드가 한 티켓에 몰리는 최대 경합)
+ * - stock: 티켓당 재고 (작을수록 매진 -> 재입고 경로를 자주 탐)
+ * - 스레드 수는 실행 옵션(-PjmhThreads)으로 바꿔가며 측정
+ * - long-adder-approx는 초과 판매가 가능한 근사 구현이라 기본 목록에 없음 (-p primitive=long-adder-approx로 별도 실행)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReservationPrimitiveBenchmark {
+
+    @Param({"synchronized", "reentrant-lock", "stamped-lock", "striped-lock", "atomic-cas"})
+    private String primitive;
+
+    @Param({"1", "8", "64"})
+    private int ticketCount;
+
+    @Param({"100", "100000"})
+    private int stock;
+
+    private TicketInventory inventory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inventory = switch (primitive) {
+            case "synchronized" -> new SynchronizedInventory(ticketCount, stock);
+            case "reentrant-lock" -> new ReentrantLockInventory(ticketCount, stock);
+            case "stamped-lock" -> new StampedLockInventory(ticketCount, stock);
+            case "striped-lock" -> new StripedLockInventory(ticketCount, stock);
+            case "atomic-cas" -> new AtomicCasInventory(ticketCount, stock);
+            case "long-adder-approx" -> new LongAdderInventory(ticketCount, stock);
+            default -> throw new IllegalArgumentException("알 수 없는 동기화 방식: " + primitive);
+        };
+    }
+
+    /**
+     * 스레드마다 다른 티켓부터 순서대로 요청 (난수 생성 비용을 측정에서 제외)
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            next = ThreadLocalRandom.current().nextInt(1 << 16);
+        }
+
+        int nextTicket(int ticketCount) {
+            return (next++ & Integer.MAX_VALUE) % ticketCount;
+        }
+    }
+
+    @Benchmark
+    public boolean reserve(Cursor cursor) {
+        int ticketIndex = cursor.nextTicket(ticketCount);
+        if (inventory.tryReserve(ticketIndex)) {
+            return true;
+        }
+        inventory.restock(ticketIndex);
+        return false;
+    }
+}
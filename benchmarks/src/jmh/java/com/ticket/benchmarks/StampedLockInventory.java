@@ -0,0 +1,54 @@
+package com.ticket.benchmarks;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * StampedLock - 모든 티켓이 하나의 락을 공유
+ *
+ * - 재고 확인은 낙관적 읽기로 먼저 수행하여 매진 판정은 락 없이 끝냄
+ * - 재고가 있어 보이면 쓰기 락을 잡고 다시 확인한 뒤 차감
+ */
+public class StampedLockInventory implements TicketInventory {
+
+    private final BenchmarkTicket[] tickets;
+    private final StampedLock lock = new StampedLock();
+
+    public StampedLockInventory(int ticketCount, int stock) {
+        this.tickets = Tickets.create(ticketCount, stock);
+    }
+
+    @Override
+    public boolean tryReserve(int ticketIndex) {
+        BenchmarkTicket ticket = tickets[ticketIndex];
+
+        long stamp = lock.tryOptimisticRead();
+        boolean hasStock = ticket.hasStock();
+        if (lock.validate(stamp) && !hasStock) {
+            return false;
+        }
+
+        stamp = lock.writeLock();
+        try {
+            if (!ticket.hasStock()) {
+                return false;
+            }
+            ticket.decreaseStock();
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void restock(int ticketIndex) {
+        long stamp = lock.writeLock();
+        try {
+            BenchmarkTicket ticket = tickets[ticketIndex];
+            if (!ticket.hasStock()) {
+                ticket.restock();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
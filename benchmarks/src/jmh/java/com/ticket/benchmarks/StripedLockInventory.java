@@ -0,0 +1,56 @@
+package com.ticket.benchmarks;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped Lock - 티켓 인덱스 해시로 고른 ReentrantLock 사용 (lv2 StripedTicketLock과 같은 구성)
+ */
+public class StripedLockInventory implements TicketInventory {
+
+    private static final int STRIPES = 256;
+
+    private final BenchmarkTicket[] tickets;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public StripedLockInventory(int ticketCount, int stock) {
+        this.tickets = Tickets.create(ticketCount, stock);
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public boolean tryReserve(int ticketIndex) {
+        ReentrantLock lock = lockFor(ticketIndex);
+        lock.lock();
+        try {
+            BenchmarkTicket ticket = tickets[ticketIndex];
+            if (!ticket.hasStock()) {
+                return false;
+            }
+            ticket.decreaseStock();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void restock(int ticketIndex) {
+        ReentrantLock lock = lockFor(ticketIndex);
+        lock.lock();
+        try {
+            BenchmarkTicket ticket = tickets[ticketIndex];
+            if (!ticket.hasStock()) {
+                ticket.restock();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(int ticketIndex) {
+        int h = Long.hashCode(ticketIndex);
+        return locks[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+}
@@ -0,0 +1,31 @@
+package com.ticket.benchmarks;
+
+/**
+ * synchronized - 모든 티켓이 하나의 모니터를 공유 (TicketService.reserveTicketWithSynchronized와 같은 범위)
+ */
+public class SynchronizedInventory implements TicketInventory {
+
+    private final BenchmarkTicket[] tickets;
+
+    public SynchronizedInventory(int ticketCount, int stock) {
+        this.tickets = Tickets.create(ticketCount, stock);
+    }
+
+    @Override
+    public synchronized boolean tryReserve(int ticketIndex) {
+        BenchmarkTicket ticket = tickets[ticketIndex];
+        if (!ticket.hasStock()) {
+            return false;
+        }
+        ticket.decreaseStock();
+        return true;
+    }
+
+    @Override
+    public synchronized void restock(int ticketIndex) {
+        BenchmarkTicket ticket = tickets[ticketIndex];
+        if (!ticket.hasStock()) {
+            ticket.restock();
+        }
+    }
+}
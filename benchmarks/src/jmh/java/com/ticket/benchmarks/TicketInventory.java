@@ -0,0 +1,19 @@
+package com.ticket.benchmarks;
+
+/**
+ * 티켓별 재고 선점 방식 (동기화 기법만 다르고 판정 규칙은 같음)
+ */
+public interface TicketInventory {
+
+    /**
+     * 재고 1개 선점
+     *
+     * @return 선점 성공 여부 (재고가 없으면 false)
+     */
+    boolean tryReserve(int ticketIndex);
+
+    /**
+     * 매진된 티켓 재고를 다시 채움 (이미 채워졌으면 아무것도 하지 않음)
+     */
+    void restock(int ticketIndex);
+}
@@ -0,0 +1,15 @@
+package com.ticket.benchmarks;
+
+final class Tickets {
+
+    private Tickets() {
+    }
+
+    static BenchmarkTicket[] create(int ticketCount, int stock) {
+        BenchmarkTicket[] tickets = new BenchmarkTicket[ticketCount];
+        for (int i = 0; i < ticketCount; i++) {
+            tickets[i] = new BenchmarkTicket(stock);
+        }
+        return tickets;
+    }
+}
@@ -0,0 +1,91 @@
+import http from 'k6/http';
+import { Counter, Trend } from 'k6/metrics';
+import { sleep } from 'k6';
+
+// 커스텀 메트릭
+const successCounter = new Counter('reservation_success');
+const failureCounter = new Counter('reservation_failure');
+const inFlightRequests = new Trend('server_in_flight_requests');
+
+// 플랫폼 스레드 vs 가상 스레드 비교: 2000명이 동시에 락 대기 경로로 예매 요청
+// 같은 스크립트를 두 번 실행하고 p95 지연 시간과 서버 동시 처리 요청 수(max)를 비교
+//
+// VIRTUAL_THREADS_ENABLED=false docker-compose -f docker-compose.yml -f docker-compose.level-3.yml up -d
+// k6 run -e MODE=platform virtual-thread-test.js
+// VIRTUAL_THREADS_ENABLED=true docker-compose -f docker-compose.yml -f docker-compose.level-3.yml up -d
+// k6 run -e MODE=virtual virtual-thread-test.js
+//
+// LV.2 (단일 인스턴스, 비관적 락):
+// k6 run -e MODE=virtual -e BASE_URL=http://localhost:8080 -e RESERVE_PATH=/reserve/pessimistic virtual-thread-test.js
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TICKET_ID = __ENV.TICKET_ID || 1;
+const RESERVE_PATH = __ENV.RESERVE_PATH || '/reserve';
+const MODE = __ENV.MODE || 'platform';
+
+export const options = {
+  scenarios: {
+    // 2000명이 동시에 예매 요청 (각자 1회)
+    reserve: {
+      executor: 'per-vu-iterations',
+      vus: 2000,
+      iterations: 1,
+      maxDuration: '60s',
+      exec: 'reserve',
+      tags: { mode: MODE },
+    },
+    // 서버가 동시에 처리 중인 요청 수를 주기적으로 수집
+    probe: {
+      executor: 'constant-vus',
+      vus: 1,
+      duration: '30s',
+      exec: 'probe',
+      tags: { mode: MODE },
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:reserve}': ['p(95)<5000'],
+    'server_in_flight_requests': ['max>0'],
+  },
+  summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'max'],
+};
+
+export function setup() {
+  console.log(`🚀 가상 스레드 비교 테스트 시작 (모드: ${MODE.toUpperCase()})`);
+  console.log(`   - 가상 사용자: 2000명 (각 1회 예매)`);
+  console.log(`   - 예매 경로: /api/tickets/${TICKET_ID}${RESERVE_PATH}`);
+}
+
+export function reserve() {
+  const userId = `vt_${MODE}_${__VU}`;
+  const res = http.post(`${BASE_URL}/api/tickets/${TICKET_ID}${RESERVE_PATH}?userId=${userId}`);
+
+  if (res.status === 200) {
+    successCounter.add(1);
+  } else {
+    failureCounter.add(1);
+  }
+}
+
+export function probe() {
+  const res = http.get(`${BASE_URL}/actuator/prometheus`, { tags: { name: 'prometheus' } });
+  if (res.status === 200) {
+    // http_server_requests_active_seconds_active_count{...} 값의 합 = 처리 중인 요청 수
+    // (로드밸런서 뒤에서는 응답한 인스턴스 한 대의 값)
+    let active = 0;
+    for (const line of res.body.split('\n')) {
+      if (line.startsWith('http_server_requests_active_seconds_active_count')) {
+        active += parseFloat(line.substring(line.lastIndexOf(' ') + 1));
+      }
+    }
+    inFlightRequests.add(active);
+  }
+  sleep(0.2);
+}
+
+export function teardown() {
+  console.log('\n📊 테스트 완료');
+  console.log('='.repeat(60));
+  console.log(`   모드: ${MODE}`);
+  console.log('   비교 지표: http_req_duration{scenario:reserve} p(95), server_in_flight_requests max');
+  console.log('='.repeat(60));
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq_generator")
+    @SequenceGenerator(name = "reservation_seq_generator", sequenceName = "reservations_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq_generator")
+    @SequenceGenerator(name = "ticket_seq_generator", sequenceName = "tickets_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
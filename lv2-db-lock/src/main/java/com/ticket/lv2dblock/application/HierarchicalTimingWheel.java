@@ -0,0 +1,136 @@
+package com.ticket.lv2dblock.application;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (만료 시각이 된 작업만 꺼내 실행)
+ *
+ * - 0단계 휠의 칸 하나가 tick, 상위 단계의 칸 하나는 하위 휠 한 바퀴 (tick x wheelSize^단계)
+ * - 등록: 만료 시각이 들어가는 가장 낮은 단계의 칸에 추가 (O(1))
+ * - tick마다 0단계의 현재 칸만 꺼내 실행하고, 상위 단계는 칸 경계를 지날 때 그 칸을 하위 단계로 다시 분배
+ * - 작업 수와 관계없이 tick당 비용은 만료되는(또는 내려오는) 작업 수에만 비례 (테이블 전체 스캔 없음)
+ * - 최상위 단계 범위를 넘는 작업은 최상위 휠의 마지막 칸에 두었다가 다시 분배
+ *
+ * @param <T> 만료 시 전달할 값 (예: 선점 ID)
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<ArrayDeque<Timeout<T>>[]> levels = new ArrayList<>();
+    private final long[] levelTickMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long currentTime; // tick 단위로 내림한 현재 시각
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTickMillis = new long[levelCount];
+        long levelTick = tickMillis;
+        for (int level = 0; level < levelCount; level++) {
+            ArrayDeque<Timeout<T>>[] buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+            levels.add(buckets);
+            levelTickMillis[level] = levelTick;
+            levelTick = Math.multiplyExact(levelTick, wheelSize);
+        }
+        this.currentTime = startMillis - startMillis % tickMillis;
+    }
+
+    /**
+     * 만료 시각에 전달할 값 등록
+     *
+     * @return 이미 만료 시각이 지났으면 false (등록하지 않음, 호출자가 바로 처리)
+     */
+    public boolean schedule(long deadlineMillis, T value) {
+        lock.lock();
+        try {
+            // tick 단위로 올림하여 만료 시각보다 일찍 실행되지 않도록 함 (최대 tick만큼 늦게 실행)
+            if (!add(new Timeout<>(deadlineMillis + tickMillis - 1, value))) {
+                return false;
+            }
+            size++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 시각까지 tick을 진행하고 만료된 값을 전달 (실행은 락 밖에서)
+     */
+    public void advance(long nowMillis, Consumer<T> onExpired) {
+        List<T> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            while (currentTime + tickMillis <= nowMillis) {
+                currentTime += tickMillis;
+                // 상위 단계부터 경계를 지난 칸을 하위 단계로 분배한 뒤 0단계의 현재 칸 처리
+                for (int level = levels.size() - 1; level >= 0; level--) {
+                    if (currentTime % levelTickMillis[level] != 0) {
+                        continue;
+                    }
+                    ArrayDeque<Timeout<T>> bucket = levels.get(level)[bucketIndex(level, currentTime)];
+                    int count = bucket.size();
+                    for (int i = 0; i < count; i++) {
+                        Timeout<T> timeout = bucket.poll();
+                        if (!add(timeout)) {
+                            expired.add(timeout.value());
+                            size--;
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        expired.forEach(onExpired);
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean add(Timeout<T> timeout) {
+        long deadline = timeout.deadlineMillis();
+        if (deadline < currentTime + tickMillis) {
+            return false;
+        }
+
+        for (int level = 0; level < levels.size(); level++) {
+            long levelTick = levelTickMillis[level];
+            long levelStart = currentTime - currentTime % levelTick;
+            if (deadline < levelStart + levelTick * wheelSize) {
+                levels.get(level)[bucketIndex(level, deadline)].add(timeout);
+                return true;
+            }
+        }
+
+        // 최상위 범위를 넘으면 최상위 휠의 마지막 칸에 보관 (그 칸을 지날 때 다시 분배됨)
+        int top = levels.size() - 1;
+        long topTick = levelTickMillis[top];
+        long lastSlotTime = currentTime - currentTime % topTick + topTick * (wheelSize - 1);
+        levels.get(top)[bucketIndex(top, lastSlotTime)].add(timeout);
+        return true;
+    }
+
+    private int bucketIndex(int level, long timeMillis) {
+        return (int) ((timeMillis / levelTickMillis[level]) % wheelSize);
+    }
+
+    private record Timeout<T>(long deadlineMillis, T value) {}
+}
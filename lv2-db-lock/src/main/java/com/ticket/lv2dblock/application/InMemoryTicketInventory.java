@@ -0,0 +1,111 @@
+package com.ticket.lv2dblock.application;
+
+import com.ticket.lv2dblock.domain.Ticket;
+import com.ticket.lv2dblock.infrastructure.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM 메모리에서 티켓 재고를 관리하는 인벤토리
+ *
+ * - 티켓별 재고와 DB 미반영 예약 수를 AtomicLong 하나에 묶어 보관하고 CAS로 함께 갱신 (락 없음)
+ *   (재동기화가 진행 중인 선점과 같은 값을 CAS하므로, 덮어쓰기로 선점이 사라지지 않음)
+ * - 최초 접근 시 한 번만 DB에서 재고를 읽어오고, 이후에는 메모리 값이 기준
+ *   (DB 조회는 맵 밖에서 수행 - computeIfAbsent 안에서 조회하면 같은 버킷의 다른 티켓까지 대기)
+ * - 단일 인스턴스 전용: 다른 전략이나 다른 인스턴스가 같은 티켓의 DB 재고를 직접 차감하면 안 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryTicketInventory {
+
+    private final TicketRepository ticketRepository;
+
+    private final Map<Long, AtomicLong> states = new ConcurrentHashMap<>();
+
+    /**
+     * 재고 1개 선점 (DB 미반영 예약 수도 함께 1 증가)
+     *
+     * @return 선점 성공 여부 (재고가 없으면 false)
+     */
+    public boolean tryReserve(Long ticketId) {
+        AtomicLong state = stateOf(ticketId);
+
+        while (true) {
+            long current = state.get();
+            int stock = stockOf(current);
+            if (stock <= 0) {
+                return false;
+            }
+            if (state.compareAndSet(current, pack(stock - 1, unflushedOf(current) + 1))) {
+                return true;
+            }
+        }
+    }
+
+    public int getStock(Long ticketId) {
+        return stockOf(stateOf(ticketId).get());
+    }
+
+    /**
+     * Write-Behind 반영이 커밋된 예약 수만큼 DB 미반영 예약 수를 줄임
+     */
+    public void markFlushed(Long ticketId, int flushed) {
+        AtomicLong state = states.get(ticketId);
+        if (state != null) {
+            state.updateAndGet(current -> pack(stockOf(current), unflushedOf(current) - flushed));
+        }
+    }
+
+    /**
+     * 반영할 수 없어 버린 예약을 빼고, 메모리 재고를 DB 재고 - DB 미반영 예약 수로 다시 맞춤
+     *
+     * - 같은 값에 대한 CAS로 적용하므로 그 사이에 선점된 예약도 미반영 예약 수에 그대로 포함됨
+     * - Write-Behind 반영과 같은 스레드(flushLock 안)에서만 호출되므로 읽어온 DB 재고는 그동안 바뀌지 않음
+     *
+     * @param discarded 버린 예약 수
+     */
+    public void resync(Long ticketId, int discarded) {
+        int dbStock = loadStock(ticketId);
+        long updated = stateOf(ticketId).updateAndGet(current -> {
+            int unflushed = Math.max(0, unflushedOf(current) - discarded);
+            return pack(Math.max(0, dbStock - unflushed), unflushed);
+        });
+        log.warn("[In-Memory] 재고 재동기화 - 티켓 ID: {}, 재고: {}, 미반영 예약: {}",
+                ticketId, stockOf(updated), unflushedOf(updated));
+    }
+
+    private AtomicLong stateOf(Long ticketId) {
+        AtomicLong state = states.get(ticketId);
+        if (state != null) {
+            return state;
+        }
+        AtomicLong loaded = new AtomicLong(pack(loadStock(ticketId), 0));
+        AtomicLong existing = states.putIfAbsent(ticketId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private int loadStock(Long ticketId) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
+        return ticket.getStock();
+    }
+
+    // 상위 32비트: 재고, 하위 32비트: DB 미반영 예약 수
+    private static long pack(int stock, int unflushed) {
+        return ((long) stock << 32) | (unflushed & 0xFFFFFFFFL);
+    }
+
+    private static int stockOf(long state) {
+        return (int) (state >> 32);
+    }
+
+    private static int unflushedOf(long state) {
+        return (int) state;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ticket.lv2dblock.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 예매 전략별 지연 시간 분해 지표 (락 대기 / 락 보유 / 트랜잭션 / 재시도 / 거절)
+ *
+ * - 모든 지표에 strategy(예매 방식)와 ticketBucket(티켓 ID % 16) 태그를 붙임
+ *   (티켓 ID를 그대로 태그로 쓰면 티켓 수만큼 시계열이 늘어나므로 16개 구간으로 묶음)
+ * - Timer는 퍼센타일 히스토그램을 함께 내보내므로 Prometheus에서 histogram_quantile로 p95/p99 계산 가능
+ * - 행 락(SELECT ... FOR UPDATE)은 커밋/롤백 시점에 풀리므로 보유 시간은 트랜잭션 완료 콜백에서 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationMetrics {
+
+    public static final String SYNCHRONIZED = "synchronized";
+    public static final String STRIPED = "striped";
+    public static final String PESSIMISTIC = "pessimistic";
+    public static final String OPTIMISTIC = "optimistic";
+
+    private static final int TICKET_BUCKETS = 16;
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordLockWait(String strategy, Long ticketId, Timer.Sample sample, boolean acquired) {
+        sample.stop(timer("ticket.reservation.lock.wait", "락 획득까지 대기한 시간",
+                tags(strategy, ticketId).and("acquired", String.valueOf(acquired))));
+    }
+
+    public void recordLockHold(String strategy, Long ticketId, Timer.Sample sample) {
+        sample.stop(timer("ticket.reservation.lock.hold", "락을 잡고 있던 시간", tags(strategy, ticketId)));
+    }
+
+    public void recordTransaction(String strategy, Long ticketId, Timer.Sample sample, boolean committed) {
+        sample.stop(timer("ticket.reservation.transaction", "예매 트랜잭션 시작부터 커밋/롤백까지 걸린 시간",
+                tags(strategy, ticketId).and("outcome", committed ? "committed" : "rolled_back")));
+    }
+
+    /**
+     * 지금 잡은 행 락의 보유 시간을 현재 트랜잭션이 끝날 때 기록 (트랜잭션 밖이면 기록하지 않음)
+     */
+    public void recordRowLockHoldUntilCompletion(String strategy, Long ticketId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Timer.Sample sample = start();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                recordLockHold(strategy, ticketId, sample);
+            }
+        });
+    }
+
+    public void recordRetry(String strategy, Long ticketId) {
+        Counter.builder("ticket.reservation.retries")
+                .description("버전 충돌 등으로 다시 시도한 횟수")
+                .tags(tags(strategy, ticketId))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordRejection(String strategy, Long ticketId, String reason) {
+        Counter.builder("ticket.reservation.rejections")
+                .description("사유별 예매 거절 건수")
+                .tags(tags(strategy, ticketId).and("reason", reason))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private Tags tags(String strategy, Long ticketId) {
+        return Tags.of("strategy", strategy, "ticketBucket", String.valueOf(Math.floorMod(ticketId, TICKET_BUCKETS)));
+    }
+}
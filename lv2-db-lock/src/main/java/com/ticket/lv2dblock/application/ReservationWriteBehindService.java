@@ -0,0 +1,179 @@
+package com.ticket.lv2dblock.application;
+
+import com.ticket.lv2dblock.domain.Reservation;
+import com.ticket.lv2dblock.infrastructure.ReservationRepository;
+import com.ticket.lv2dblock.infrastructure.TicketRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리에서 확정된 예약을 DB에 비동기로 반영하는 Write-Behind 서비스
+ *
+ * - 예약은 큐에 쌓아두고 주기적으로 배치 단위로 반영
+ * - 배치 안에서 티켓별로 나눠 트랜잭션마다 재고는 UPDATE 한 번(stock - k)으로 차감
+ *   (한 티켓의 반영 실패가 다른 티켓의 예약을 막지 않음)
+ * - 일시적인 오류(DB 장애 등)로 실패한 예약은 큐에 되돌려 반영될 때까지 재시도 (횟수 제한 없음)
+ *   연속으로 실패하면 다음 반영까지의 대기 시간을 두 배씩 늘리고 MAX_BACKOFF_MILLIS에서 멈춤, 성공하면 초기화
+ * - 재고 불일치/제약 조건 위반처럼 재시도해도 실패하는 경우에만
+ *   예약을 로그로 남기고 버린 뒤 인메모리 재고를 DB 기준으로 다시 맞춤
+ * - 종료 시 대기 시간과 관계없이 남은 예약 반영을 한 번 더 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationWriteBehindService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final TicketRepository ticketRepository;
+    private final ReservationRepository reservationRepository;
+    private final InMemoryTicketInventory inMemoryTicketInventory;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 인메모리 재고가 선점된 건만 들어오므로 큐 크기는 전체 재고로 제한됨
+    private final BlockingDeque<PendingReservation> pending = new LinkedBlockingDeque<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // flushLock 안에서만 읽고 씀
+    private int consecutiveFailures;
+    private long retryNotBefore;
+
+    public void enqueue(Long ticketId, String userId) {
+        pending.add(new PendingReservation(ticketId, userId, LocalDateTime.now()));
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelay = 100)
+    public void flush() {
+        flush(false);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[Write-Behind] 종료 전 남은 예약 반영 - {}건", pending.size());
+        flush(true);
+        if (!pending.isEmpty()) {
+            log.error("[Write-Behind] 종료 시점에 반영하지 못한 예약 - {}건", pending.size());
+            pending.forEach(r -> log.error("[Write-Behind] 미반영 예약 - 티켓 ID: {}, 사용자: {}, 예약 시각: {}",
+                    r.ticketId(), r.userId(), r.reservedAt()));
+        }
+    }
+
+    private void flush(boolean ignoreBackoff) {
+        flushLock.lock();
+        List<PendingReservation> retries = new ArrayList<>();
+        try {
+            if (!ignoreBackoff && System.currentTimeMillis() < retryNotBefore) {
+                return;
+            }
+            List<PendingReservation> batch = new ArrayList<>(BATCH_SIZE);
+            while (pending.drainTo(batch, BATCH_SIZE) > 0) {
+                batch.stream()
+                        .collect(Collectors.groupingBy(PendingReservation::ticketId, LinkedHashMap::new, Collectors.toList()))
+                        .forEach((ticketId, reservations) -> retries.addAll(flushTicket(ticketId, reservations)));
+                batch.clear();
+                if (!retries.isEmpty()) {
+                    // 일시적인 오류(DB 장애 등)가 있으면 이번 주기는 중단하고 대기 후 재시도
+                    break;
+                }
+            }
+            if (retries.isEmpty()) {
+                consecutiveFailures = 0;
+                retryNotBefore = 0;
+            } else {
+                backOff(retries.size());
+            }
+        } finally {
+            pending.addAll(retries);
+            flushLock.unlock();
+        }
+    }
+
+    private void backOff(int retryCount) {
+        long delay = Math.min(INITIAL_BACKOFF_MILLIS << Math.min(consecutiveFailures, 16), MAX_BACKOFF_MILLIS);
+        consecutiveFailures++;
+        retryNotBefore = System.currentTimeMillis() + delay;
+        log.warn("[Write-Behind] 연속 반영 실패 {}회, {}ms 후 재시도 - 재시도할 예약 {}건",
+                consecutiveFailures, delay, retryCount);
+    }
+
+    /**
+     * 한 티켓의 예약을 트랜잭션 하나로 반영
+     *
+     * @return 다음 주기에 재시도할 예약 (성공하거나 버린 경우 빈 목록)
+     */
+    private List<PendingReservation> flushTicket(Long ticketId, List<PendingReservation> reservations) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int updated = ticketRepository.decreaseStock(ticketId, reservations.size());
+                if (updated == 0) {
+                    throw new IllegalStateException("DB 재고가 인메모리 재고와 일치하지 않습니다. 티켓 ID: " + ticketId);
+                }
+                reservationRepository.persistAll(reservations.stream()
+                        .map(r -> new Reservation(r.ticketId(), r.userId(), r.reservedAt()))
+                        .toList());
+                eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+            });
+            inMemoryTicketInventory.markFlushed(ticketId, reservations.size());
+            log.info("[Write-Behind] 예약 {}건 반영 완료 - 티켓 ID: {}", reservations.size(), ticketId);
+            return List.of();
+        } catch (Exception e) {
+            if (isRetryable(e)) {
+                log.warn("[Write-Behind] 예약 반영 실패, 재시도 대기 - 티켓 ID: {}, {}건, 에러: {}",
+                        ticketId, reservations.size(), e.getMessage());
+                return reservations;
+            }
+            discard(ticketId, reservations, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 반영할 수 없는 예약은 로그로 남기고 버린 뒤, 인메모리 재고를 DB 재고 - 아직 반영되지 않은 예약 수로 다시 맞춤
+     */
+    private void discard(Long ticketId, List<PendingReservation> reservations, Exception cause) {
+        log.error("[Write-Behind] 예약 반영 불가, 폐기 - 티켓 ID: {}, {}건, 에러: {}",
+                ticketId, reservations.size(), cause.getMessage());
+        reservations.forEach(r -> log.error("[Write-Behind] 폐기된 예약 - 티켓 ID: {}, 사용자: {}, 예약 시각: {}",
+                r.ticketId(), r.userId(), r.reservedAt()));
+
+        try {
+            inMemoryTicketInventory.resync(ticketId, reservations.size());
+        } catch (Exception e) {
+            log.error("[Write-Behind] 인메모리 재고 재동기화 실패 - 티켓 ID: {}, 에러: {}", ticketId, e.getMessage());
+        }
+    }
+
+    /**
+     * 재고 불일치와 제약 조건 위반은 다시 시도해도 같은 결과이므로 재시도하지 않음
+     */
+    private boolean isRetryable(Exception e) {
+        return !(e instanceof IllegalStateException || e instanceof DataIntegrityViolationException);
+    }
+
+    /**
+     * 예약 시점 정보만 보관 (반영 실패 시 엔티티 상태와 무관하게 다시 만들 수 있도록)
+     */
+    private record PendingReservation(Long ticketId, String userId, LocalDateTime reservedAt) {}
+}
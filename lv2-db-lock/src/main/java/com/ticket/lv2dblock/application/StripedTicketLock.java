@@ -0,0 +1,37 @@
+package com.ticket.lv2dblock.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 티켓 ID 기반 Striped Lock
+ *
+ * - 고정 크기의 락 배열을 티켓 ID 해시로 인덱싱 (Map 무한 증가 없음)
+ * - 서로 다른 티켓은 (해시 충돌이 없는 한) 서로 다른 락을 사용하므로 병렬 처리 가능
+ * - 같은 티켓은 항상 같은 락을 사용하므로 단일 JVM 내 정합성 보장
+ */
+@Component
+public class StripedTicketLock {
+
+    private static final int STRIPES = 256; // 2의 거듭제곱
+
+    private final Lock[] locks = new Lock[STRIPES];
+
+    public StripedTicketLock() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock get(Long ticketId) {
+        return locks[indexOf(ticketId)];
+    }
+
+    private int indexOf(Long ticketId) {
+        int h = ticketId.hashCode();
+        h ^= (h >>> 16); // 상위 비트를 섞어 연속된 ID도 고르게 분산
+        return h & (STRIPES - 1);
+    }
+}
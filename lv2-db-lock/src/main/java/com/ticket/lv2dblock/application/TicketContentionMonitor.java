@@ -0,0 +1,133 @@
+package com.ticket.lv2dblock.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 티켓별 버전 충돌률을 추적하여 락 방식을 고르는 모니터
+ *
+ * - 낙관적 락 시도마다 충돌 여부(1/0)를 지수 이동 평균(EWMA)으로 누적
+ * - 충돌률이 30%를 넘으면 비관적 락으로, 10% 밑으로 내려가면 낙관적 락으로 전환 (전환이 반복되지 않도록 간격을 둠)
+ * - 비관적 락 모드에서는 충돌이 관측되지 않으므로 20건 중 1건만 낙관적 락으로 시도하여 충돌률을 다시 측정
+ * - 티켓 ID는 요청 경로에서 그대로 들어오므로 상태는 크기 제한(10,000개) + 미사용 10분 후 만료되는 Caffeine 캐시에 보관
+ * - 지표는 티켓 버킷(티켓 ID % 16)별 Gauge로 집계 (비관적 모드 티켓 수, 최대 충돌률 - 티켓 ID 태그를 쓰면 시계열이 무한히 늘어남)
+ */
+@Slf4j
+@Component
+public class TicketContentionMonitor {
+
+    private static final double SMOOTHING = 0.2; // EWMA 가중치 (최근 시도의 반영 비율)
+    private static final double PESSIMISTIC_THRESHOLD = 0.3;
+    private static final double OPTIMISTIC_THRESHOLD = 0.1;
+    private static final int PROBE_INTERVAL = 20;
+    private static final int MAX_OPTIMISTIC_ATTEMPTS = 4;
+    private static final int TICKET_BUCKETS = 16;
+
+    private final Cache<Long, Contention> contentions = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public TicketContentionMonitor(MeterRegistry meterRegistry) {
+        for (int bucket = 0; bucket < TICKET_BUCKETS; bucket++) {
+            int ticketBucket = bucket;
+            Tags tags = Tags.of("ticketBucket", String.valueOf(ticketBucket));
+            Gauge.builder("ticket.lock.adaptive.pessimistic_tickets", this, m -> m.countPessimistic(ticketBucket))
+                    .description("비관적 락 모드인 티켓 수")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("ticket.lock.adaptive.conflict_rate.max", this, m -> m.maxConflictRate(ticketBucket))
+                    .description("낙관적 락 시도의 최근 버전 충돌률 (EWMA) 중 최댓값")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 이번 요청에서 낙관적 락으로 시도할 최대 횟수
+     *
+     * @return 낙관적 모드면 MAX_OPTIMISTIC_ATTEMPTS, 비관적 모드의 측정 요청이면 1, 그 외 0
+     */
+    public int optimisticAttempts(Long ticketId) {
+        Contention contention = get(ticketId);
+        if (!contention.pessimistic) {
+            return MAX_OPTIMISTIC_ATTEMPTS;
+        }
+        return contention.requests.incrementAndGet() % PROBE_INTERVAL == 0 ? 1 : 0;
+    }
+
+    public boolean isPessimistic(Long ticketId) {
+        return get(ticketId).pessimistic;
+    }
+
+    public void recordConflict(Long ticketId) {
+        get(ticketId).record(ticketId, 1.0);
+    }
+
+    public void recordSuccess(Long ticketId) {
+        get(ticketId).record(ticketId, 0.0);
+    }
+
+    public double getConflictRate(Long ticketId) {
+        return get(ticketId).rate();
+    }
+
+    private Contention get(Long ticketId) {
+        return contentions.get(ticketId, id -> new Contention());
+    }
+
+    private long countPessimistic(int ticketBucket) {
+        return contentions.asMap().entrySet().stream()
+                .filter(entry -> bucketOf(entry.getKey()) == ticketBucket && entry.getValue().pessimistic)
+                .count();
+    }
+
+    private double maxConflictRate(int ticketBucket) {
+        return contentions.asMap().entrySet().stream()
+                .filter(entry -> bucketOf(entry.getKey()) == ticketBucket)
+                .mapToDouble(entry -> entry.getValue().rate())
+                .max()
+                .orElse(0.0);
+    }
+
+    private int bucketOf(Long ticketId) {
+        return Math.floorMod(ticketId, TICKET_BUCKETS);
+    }
+
+    private static class Contention {
+
+        private final AtomicLong rateBits = new AtomicLong(Double.doubleToLongBits(0.0));
+        private final AtomicInteger requests = new AtomicInteger();
+        private volatile boolean pessimistic;
+
+        double rate() {
+            return Double.longBitsToDouble(rateBits.get());
+        }
+
+        void record(Long ticketId, double sample) {
+            long previous;
+            double rate;
+            do {
+                previous = rateBits.get();
+                rate = SMOOTHING * sample + (1 - SMOOTHING) * Double.longBitsToDouble(previous);
+            } while (!rateBits.compareAndSet(previous, Double.doubleToLongBits(rate)));
+
+            if (!pessimistic && rate > PESSIMISTIC_THRESHOLD) {
+                pessimistic = true;
+                log.info("[Adaptive Lock] 비관적 락으로 전환 - 티켓 ID: {}, 충돌률: {}", ticketId, String.format("%.2f", rate));
+            } else if (pessimistic && rate < OPTIMISTIC_THRESHOLD) {
+                pessimistic = false;
+                log.info("[Adaptive Lock] 낙관적 락으로 전환 - 티켓 ID: {}, 충돌률: {}", ticketId, String.format("%.2f", rate));
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.ticket.lv2dblock.application;
+
+import com.ticket.lv2dblock.domain.HoldStatus;
+import com.ticket.lv2dblock.domain.Reservation;
+import com.ticket.lv2dblock.domain.TicketHold;
+import com.ticket.lv2dblock.infrastructure.ReservationRepository;
+import com.ticket.lv2dblock.infrastructure.TicketHoldRepository;
+import com.ticket.lv2dblock.infrastructure.TicketRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * LV.2-6: 임시 선점 (결제 대기 TTL) + 계층형 타이밍 휠 만료
+ *
+ * - 선점 시점에 재고를 조건부 UPDATE로 차감하고 TTL(기본 5분) 동안 결제를 기다림
+ * - 결제하면 예약으로 확정, 취소하거나 TTL이 지나면 재고를 자동으로 되돌림
+ * - 만료는 테이블을 주기적으로 스캔하지 않고 타이밍 휠에 등록해 두었다가 만료 시각이 된 선점만 처리
+ * - 이미 예매했거나 진행 중인 선점이 있는 사용자는 다시 선점할 수 없음
+ *   (재고 UPDATE로 티켓 row 락을 잡은 뒤 확인하므로 같은 티켓의 선점/확정과 경합하지 않음,
+ *    진행 중 선점 중복은 부분 유니크 인덱스로 한 번 더 보장)
+ *
+ * 장점:
+ * - 선점이 수백만 건이어도 tick당 비용은 그 tick에 만료되는 선점 수에만 비례
+ * - 확정/취소/만료는 모두 status = HELD 조건부 UPDATE이므로 경합해도 하나만 반영 (재고 이중 복구 없음)
+ *
+ * 단점:
+ * - 타이밍 휠은 JVM 메모리에 있으므로 단일 인스턴스 기준 (재시작 시 DB의 HELD 선점으로 다시 채움)
+ * - 만료 처리는 최대 tick(100ms)만큼 늦을 수 있음 (확정은 만료 시각 기준으로 거절하므로 정합성에는 영향 없음)
+ */
+@Slf4j
+@Service
+public class TicketHoldService {
+
+    private static final long TICK_MILLIS = 100L;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4; // 100ms x 64^4 ≈ 19일
+    private static final long RETRY_DELAY_MILLIS = 1_000L;
+
+    private final TicketRepository ticketRepository;
+    private final TicketHoldRepository ticketHoldRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration holdTtl;
+
+    private final HierarchicalTimingWheel<Long> expirationWheel =
+            new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+    // 만료 처리(DB 왕복)가 tick 스레드를 막지 않도록 가상 스레드에서 실행
+    private final ExecutorService expirationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TicketHoldService(TicketRepository ticketRepository,
+                             TicketHoldRepository ticketHoldRepository,
+                             ReservationRepository reservationRepository,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${ticket.hold.ttl-seconds:300}") long ttlSeconds) {
+        this.ticketRepository = ticketRepository;
+        this.ticketHoldRepository = ticketHoldRepository;
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.holdTtl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 재고 선점 (재고 차감 + 선점 저장 후 만료 등록)
+     */
+    public TicketHold hold(Long ticketId, String userId) {
+        TicketHold hold;
+        try {
+            hold = transactionTemplate.execute(status -> {
+                if (ticketRepository.holdStock(ticketId) == 0) {
+                    if (!ticketRepository.existsById(ticketId)) {
+                        throw new IllegalArgumentException("티켓을 찾을 수 없습니다.");
+                    }
+                    throw new IllegalStateException("재고가 부족합니다.");
+                }
+                if (reservationRepository.existsByTicketIdAndUserId(ticketId, userId)) {
+                    throw new IllegalStateException("이미 예매한 티켓입니다.");
+                }
+                LocalDateTime now = LocalDateTime.now();
+                TicketHold saved = ticketHoldRepository.saveAndFlush(new TicketHold(ticketId, userId, now, now.plus(holdTtl)));
+                eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[Hold] 진행 중인 선점 중복 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            throw new IllegalStateException("이미 선점 중인 티켓입니다.");
+        }
+
+        // 커밋된 선점만 등록 (롤백된 선점이 만료되며 재고를 되돌리는 일이 없도록)
+        scheduleExpiration(hold.getId(), hold.getExpiresAt());
+        log.info("[Hold] 선점 완료 - 티켓 ID: {}, 사용자: {}, 선점 ID: {}", ticketId, userId, hold.getId());
+        return hold;
+    }
+
+    /**
+     * 결제 완료: 만료 전 선점을 예약으로 확정
+     * 타이밍 휠에 남은 항목은 만료 시점에 조건부 UPDATE가 0건이 되어 그대로 무시됨
+     */
+    public void confirm(Long holdId, String userId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                TicketHold hold = getOwnedHold(holdId, userId);
+                if (ticketHoldRepository.confirmIfNotExpired(holdId, LocalDateTime.now()) == 0) {
+                    throw new IllegalStateException("만료되었거나 이미 처리된 선점입니다.");
+                }
+                ticketRepository.increaseReservedCount(hold.getTicketId());
+                // 티켓 row 락을 잡은 뒤 확인하므로 같은 사용자의 다른 확정/예매와 경합하지 않음
+                if (reservationRepository.existsByTicketIdAndUserId(hold.getTicketId(), hold.getUserId())) {
+                    throw new IllegalStateException("이미 예매한 티켓입니다.");
+                }
+                reservationRepository.saveAndFlush(new Reservation(hold.getTicketId(), hold.getUserId()));
+                eventPublisher.publishEvent(new TicketChangedEvent(hold.getTicketId()));
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[Hold] 예약 중복 - 선점 ID: {}, 사용자: {}", holdId, userId);
+            throw new IllegalStateException("이미 예매한 티켓입니다.");
+        }
+        log.info("[Hold] 선점 확정 - 선점 ID: {}, 사용자: {}", holdId, userId);
+    }
+
+    /**
+     * 사용자 취소: 재고 즉시 복구
+     */
+    public void release(Long holdId, String userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            TicketHold hold = getOwnedHold(holdId, userId);
+            if (!returnStock(hold.getId(), hold.getTicketId(), HoldStatus.RELEASED)) {
+                throw new IllegalStateException("만료되었거나 이미 처리된 선점입니다.");
+            }
+        });
+        log.info("[Hold] 선점 취소 - 선점 ID: {}, 사용자: {}", holdId, userId);
+    }
+
+    /**
+     * 현재 시각까지 타이밍 휠을 진행하고 만료된 선점 처리
+     */
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void tick() {
+        expirationWheel.advance(System.currentTimeMillis(),
+                holdId -> expirationExecutor.execute(() -> expire(holdId)));
+    }
+
+    /**
+     * 재시작 시 아직 결제 대기 중인 선점을 다시 등록 (이미 만료 시각이 지난 선점은 바로 만료 처리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restorePendingHolds() {
+        var pendingHolds = ticketHoldRepository.findByStatus(HoldStatus.HELD);
+        pendingHolds.forEach(hold -> scheduleExpiration(hold.getId(), hold.getExpiresAt()));
+        if (!pendingHolds.isEmpty()) {
+            log.info("[Hold] 결제 대기 중인 선점 {}건 만료 등록", pendingHolds.size());
+        }
+    }
+
+    public int getScheduledCount() {
+        return expirationWheel.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expirationExecutor.shutdown();
+    }
+
+    private void expire(Long holdId) {
+        try {
+            Boolean expired = transactionTemplate.execute(status -> {
+                TicketHold hold = ticketHoldRepository.findById(holdId).orElse(null);
+                return hold != null && returnStock(holdId, hold.getTicketId(), HoldStatus.EXPIRED);
+            });
+            if (Boolean.TRUE.equals(expired)) {
+                log.info("[Hold] 선점 만료, 재고 복구 - 선점 ID: {}", holdId);
+            }
+        } catch (Exception e) {
+            log.error("[Hold] 만료 처리 실패, 재시도 예약 - 선점 ID: {}, 에러: {}", holdId, e.getMessage());
+            expirationWheel.schedule(System.currentTimeMillis() + RETRY_DELAY_MILLIS, holdId);
+        }
+    }
+
+    /**
+     * HELD → 취소/만료 전이에 성공한 경우에만 재고 복구 (확정과 경합하면 한쪽만 반영)
+     */
+    private boolean returnStock(Long holdId, Long ticketId, HoldStatus to) {
+        if (ticketHoldRepository.transitionFromHeld(holdId, to) == 0) {
+            return false;
+        }
+        ticketRepository.restoreStock(ticketId);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+        return true;
+    }
+
+    private TicketHold getOwnedHold(Long holdId, String userId) {
+        TicketHold hold = ticketHoldRepository.findById(holdId)
+                .orElseThrow(() -> new IllegalArgumentException("선점 정보를 찾을 수 없습니다."));
+        if (!hold.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("본인의 선점만 처리할 수 있습니다.");
+        }
+        return hold;
+    }
+
+    private void scheduleExpiration(Long holdId, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!expirationWheel.schedule(deadline, holdId)) {
+            expirationExecutor.execute(() -> expire(holdId));
+        }
+    }
+}
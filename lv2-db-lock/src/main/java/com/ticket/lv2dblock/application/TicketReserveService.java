@@ -2,6 +2,8 @@ package com.ticket.lv2dblock.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +12,8 @@ import com.ticket.lv2dblock.domain.Ticket;
 import com.ticket.lv2dblock.infrastructure.ReservationRepository;
 import com.ticket.lv2dblock.infrastructure.TicketRepository;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -17,6 +21,8 @@ public class TicketReserveService {
 
     private final TicketRepository ticketRepository;
     private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationMetrics reservationMetrics;
 
     @Transactional
     public void reserveTicket(Long ticketId, String userId) {
@@ -43,7 +49,112 @@ public class TicketReserveService {
         // 4. 예약 정보 저장
         Reservation reservation = new Reservation(ticketId, userId);
         reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
 
         log.info("[Optimistic Lock] 예약 완료 - 티켓 ID: {}, 사용자: {}, 남은 재고: {}", ticketId, userId, ticket.getStock());
     }
+
+    @Transactional
+    public void reserveTicketWithPessimisticLock(Long ticketId, String userId) {
+        // 1. 티켓 조회 with Pessimistic Lock (SELECT ... FOR UPDATE)
+        // 행 락 대기 시간은 조회 시간으로, 보유 시간은 조회 직후부터 커밋/롤백까지로 기록
+        Timer.Sample waitSample = reservationMetrics.start();
+        Ticket ticket = ticketRepository.findByIdWithPessimisticLock(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
+        reservationMetrics.recordLockWait(ReservationMetrics.PESSIMISTIC, ticketId, waitSample, true);
+        reservationMetrics.recordRowLockHoldUntilCompletion(ReservationMetrics.PESSIMISTIC, ticketId);
+
+        // 2. 재고 확인
+        if (!ticket.hasStock()) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+
+        // 10ms 지연
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        // 3. 재고 차감
+        ticket.decreaseStock();
+        ticketRepository.save(ticket);
+
+        // 4. 예약 정보 저장
+        Reservation reservation = new Reservation(ticketId, userId);
+        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+
+        log.info("[Pessimistic Lock] 예약 완료 - 티켓 ID: {}, 사용자: {}, 남은 재고: {}", ticketId, userId, ticket.getStock());
+    }
+
+    /**
+     * 장바구니 예매 (여러 티켓을 한 트랜잭션에서 전부 예매하거나 전부 롤백)
+     * 행 락은 티켓 ID 오름차순으로 한 번에 획득
+     */
+    @Transactional
+    public void reserveCartWithPessimisticLock(List<Long> ticketIds, String userId) {
+        // 1. 티켓 조회 with Pessimistic Lock (SELECT ... ORDER BY id FOR UPDATE)
+        List<Ticket> tickets = ticketRepository.findAllByIdInWithPessimisticLock(ticketIds);
+        if (tickets.size() != ticketIds.size()) {
+            throw new IllegalArgumentException("티켓을 찾을 수 없습니다.");
+        }
+
+        // 2. 모든 티켓의 재고 확인 (하나라도 부족하면 아무것도 차감하지 않음)
+        for (Ticket ticket : tickets) {
+            if (!ticket.hasStock()) {
+                throw new IllegalStateException("재고가 부족합니다. 티켓 ID: " + ticket.getId());
+            }
+        }
+
+        // 10ms 지연
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        // 3. 재고 차감 + 예약 정보 저장
+        for (Ticket ticket : tickets) {
+            ticket.decreaseStock();
+            reservationRepository.save(new Reservation(ticket.getId(), userId));
+            eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId()));
+        }
+
+        log.info("[Pessimistic Lock] 장바구니 예약 완료 - 티켓 ID: {}, 사용자: {}", ticketIds, userId);
+    }
+
+    /**
+     * 호출자가 애플리케이션 락(전역 락, Striped Lock)을 잡은 상태에서 호출하는 예매 트랜잭션
+     * 락 해제 전에 커밋까지 끝나도록 락을 잡는 쪽과 트랜잭션 경계를 분리
+     */
+    @Transactional
+    public void reserveTicketUnderLock(Long ticketId, String userId) {
+        // 1. 티켓 조회
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
+
+        // 2. 재고 확인
+        if (!ticket.hasStock()) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+
+        // 10ms 지연
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        // 3. 재고 차감
+        ticket.decreaseStock();
+        ticketRepository.save(ticket);
+
+        // 4. 예약 정보 저장
+        Reservation reservation = new Reservation(ticketId, userId);
+        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+
+        log.info("[Application Lock] 예약 완료 - 티켓 ID: {}, 사용자: {}, 남은 재고: {}", ticketId, userId, ticket.getStock());
+    }
 }
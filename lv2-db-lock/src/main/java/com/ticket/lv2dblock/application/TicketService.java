@@ -6,21 +6,44 @@ import com.ticket.lv2dblock.infrastructure.ReservationRepository;
 import com.ticket.lv2dblock.infrastructure.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.ticket.lv2dblock.application.dto.TicketResponse;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TicketService {
 
+    private static final long BASE_BACKOFF_MILLIS = 5L;
+    private static final long MAX_BACKOFF_MILLIS = 100L;
+
     private final TicketRepository ticketRepository;
     private final ReservationRepository reservationRepository;
     private final TicketReserveService ticketReserveService;
+    private final StripedTicketLock stripedTicketLock;
+    private final InMemoryTicketInventory inMemoryTicketInventory;
+    private final ReservationWriteBehindService reservationWriteBehindService;
+    private final TicketViewCache ticketViewCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketContentionMonitor ticketContentionMonitor;
+    private final ReservationMetrics reservationMetrics;
+
+    private final Lock globalLock = new ReentrantLock();
 
     /**
-     * LV.2-1: Synchronized 키워드 사용
+     * LV.2-1: 전역 락으로 모든 예매를 직렬화 (synchronized와 같은 범위)
+     *
+     * synchronized 블록 안에서 DB I/O를 하면 가상 스레드가 캐리어 스레드에 고정(pinning)되므로
+     * 같은 의미의 ReentrantLock을 사용하고, 락 해제 전에 트랜잭션이 커밋되도록 경계를 분리
      *
      * 장점:
      * - 구현이 간단하고 직관적
@@ -31,29 +54,45 @@ public class TicketService {
      * - 멀티 인스턴스(분산 환경)에서는 동작하지 않음
      * - 모든 요청이 순차적으로 처리되어 성능 저하
      */
-    @Transactional
-    public synchronized void reserveTicketWithSynchronized(Long ticketId, String userId) {
-        // 1. 티켓 조회
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
-
-        // 2. 재고 확인
-        if (!ticket.hasStock()) {
-            throw new IllegalStateException("재고가 부족합니다.");
+    public void reserveTicketWithSynchronized(Long ticketId, String userId) {
+        Timer.Sample waitSample = reservationMetrics.start();
+        globalLock.lock();
+        reservationMetrics.recordLockWait(ReservationMetrics.SYNCHRONIZED, ticketId, waitSample, true);
+        Timer.Sample holdSample = reservationMetrics.start();
+        try {
+            runReservationTransaction(ReservationMetrics.SYNCHRONIZED, ticketId,
+                    () -> ticketReserveService.reserveTicketUnderLock(ticketId, userId));
+        } finally {
+            reservationMetrics.recordLockHold(ReservationMetrics.SYNCHRONIZED, ticketId, holdSample);
+            globalLock.unlock();
         }
+    }
 
-        // 10ms 지연
-        sleep(10);
-
-        // 3. 재고 차감
-        ticket.decreaseStock();
-        ticketRepository.save(ticket);
-
-        // 4. 예약 정보 저장
-        Reservation reservation = new Reservation(ticketId, userId);
-        reservationRepository.save(reservation);
-
-        log.info("[Synchronized] 예약 완료 - 티켓 ID: {}, 사용자: {}, 남은 재고: {}", ticketId, userId, ticket.getStock());
+    /**
+     * LV.2-1': Striped Lock (티켓별 락)
+     *
+     * 장점:
+     * - synchronized와 달리 티켓 단위로 락을 분리하여 서로 다른 티켓은 병렬 처리
+     * - 고정 크기 락 배열을 사용하므로 티켓 수가 늘어도 메모리가 증가하지 않음
+     * - 락 해제 전에 트랜잭션이 커밋되므로 커밋 전 다른 스레드가 진입하는 문제 없음
+     *
+     * 단점:
+     * - synchronized와 마찬가지로 단일 서버(JVM) 환경에서만 동작
+     * - 해시 충돌 시 서로 다른 티켓이 같은 락을 공유할 수 있음
+     */
+    public void reserveTicketWithStripedLock(Long ticketId, String userId) {
+        Lock lock = stripedTicketLock.get(ticketId);
+        Timer.Sample waitSample = reservationMetrics.start();
+        lock.lock();
+        reservationMetrics.recordLockWait(ReservationMetrics.STRIPED, ticketId, waitSample, true);
+        Timer.Sample holdSample = reservationMetrics.start();
+        try {
+            runReservationTransaction(ReservationMetrics.STRIPED, ticketId,
+                    () -> ticketReserveService.reserveTicketUnderLock(ticketId, userId));
+        } finally {
+            reservationMetrics.recordLockHold(ReservationMetrics.STRIPED, ticketId, holdSample);
+            lock.unlock();
+        }
     }
 
     /**
@@ -69,29 +108,27 @@ public class TicketService {
      * - 데드락 발생 가능성
      * - DB에 부하 증가
      */
-    @Transactional
     public void reserveTicketWithPessimisticLock(Long ticketId, String userId) {
-        // 1. 티켓 조회 with Pessimistic Lock (SELECT ... FOR UPDATE)
-        Ticket ticket = ticketRepository.findByIdWithPessimisticLock(ticketId)
-                .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
+        runReservationTransaction(ReservationMetrics.PESSIMISTIC, ticketId,
+                () -> ticketReserveService.reserveTicketWithPessimisticLock(ticketId, userId));
+    }
 
-        // 2. 재고 확인
-        if (!ticket.hasStock()) {
-            throw new IllegalStateException("재고가 부족합니다.");
+    /**
+     * LV.2-2': 장바구니 예매 (정렬된 순서의 비관적 락 + 단일 트랜잭션)
+     *
+     * 장점:
+     * - 여러 티켓의 행 락을 ID 오름차순으로 한 번에 잡으므로 요청 간 락 순서가 달라 생기는 교착 상태가 없음
+     * - 한 트랜잭션에서 처리하여 전부 성공하거나 전부 실패 (All-or-Nothing)
+     *
+     * 단점:
+     * - 장바구니의 모든 티켓 행을 커밋까지 잠그므로 인기 티켓이 섞이면 다른 티켓의 대기도 길어짐
+     */
+    public void reserveCartWithPessimisticLock(List<Long> ticketIds, String userId) {
+        List<Long> sortedIds = ticketIds.stream().distinct().sorted().toList();
+        if (sortedIds.isEmpty()) {
+            throw new IllegalArgumentException("예매할 티켓이 없습니다.");
         }
-
-        // 10ms 지연
-        sleep(10);
-
-        // 3. 재고 차감
-        ticket.decreaseStock();
-        ticketRepository.save(ticket);
-
-        // 4. 예약 정보 저장
-        Reservation reservation = new Reservation(ticketId, userId);
-        reservationRepository.save(reservation);
-
-        log.info("[Pessimistic Lock] 예약 완료 - 티켓 ID: {}, 사용자: {}, 남은 재고: {}", ticketId, userId, ticket.getStock());
+        ticketReserveService.reserveCartWithPessimisticLock(sortedIds, userId);
     }
 
     /**
@@ -112,14 +149,17 @@ public class TicketService {
 
         while (retryCount <= maxRetries) {
             try {
-                ticketReserveService.reserveTicket(ticketId, userId);
+                runReservationTransaction(ReservationMetrics.OPTIMISTIC, ticketId,
+                        () -> ticketReserveService.reserveTicket(ticketId, userId));
                 return; // 성공 시 리턴
             } catch (ObjectOptimisticLockingFailureException e) {
                 retryCount++;
                 if (retryCount > maxRetries) {
                     log.error("[Optimistic Lock Retry] 재시도 횟수 초과: {}/{}", retryCount, maxRetries);
+                    reservationMetrics.recordRejection(ReservationMetrics.OPTIMISTIC, ticketId, "retry_exhausted");
                     throw new IllegalStateException("재시도 횟수 초과: " + maxRetries);
                 }
+                reservationMetrics.recordRetry(ReservationMetrics.OPTIMISTIC, ticketId);
                 log.warn("[Optimistic Lock Retry] 버전 충돌 발생 - 재시도 {}/{}", retryCount, maxRetries);
                 sleep(10);
             } catch (IllegalStateException e) {
@@ -129,17 +169,158 @@ public class TicketService {
         }
     }
 
+    /**
+     * LV.2-3': 충돌률 기반 적응형 락 (Optimistic <-> Pessimistic)
+     *
+     * 장점:
+     * - 충돌이 드문 티켓은 낙관적 락으로 행 락 없이 처리
+     * - 충돌이 잦은 티켓은 비관적 락으로 전환하여 버려지는 트랜잭션(재시도)을 줄임
+     * - 재시도 간격을 지수적으로 늘리고 무작위로 흩어 동시에 다시 충돌하는 것을 방지
+     *
+     * 단점:
+     * - 충돌률은 인스턴스별로 관측되므로 인스턴스마다 모드가 다를 수 있음
+     * - 모드 전환 직후에는 이전 모드의 비용이 잠시 남음
+     */
+    public void reserveTicketWithAdaptiveLock(Long ticketId, String userId) {
+        // 1. 낙관적 락 시도 (충돌이 잦은 티켓은 건너뛰거나 측정용으로 1회만 시도)
+        int attempts = ticketContentionMonitor.optimisticAttempts(ticketId);
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            try {
+                runReservationTransaction(ReservationMetrics.OPTIMISTIC, ticketId,
+                        () -> ticketReserveService.reserveTicket(ticketId, userId));
+                ticketContentionMonitor.recordSuccess(ticketId);
+                return;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                ticketContentionMonitor.recordConflict(ticketId);
+                if (ticketContentionMonitor.isPessimistic(ticketId) || attempt + 1 >= attempts) {
+                    break;
+                }
+                reservationMetrics.recordRetry(ReservationMetrics.OPTIMISTIC, ticketId);
+                backoff(attempt);
+            }
+        }
+
+        // 2. 충돌이 잦거나 재시도를 모두 소진하면 비관적 락으로 처리
+        reserveTicketWithPessimisticLock(ticketId, userId);
+    }
+
+    /**
+     * LV.2-4: 조건부 UPDATE (Atomic Update)
+     *
+     * 장점:
+     * - SELECT ... FOR UPDATE 없이 단일 UPDATE 문으로 재고 확인과 차감을 원자적으로 처리
+     * - 행 락은 UPDATE 문 실행 ~ 커밋 사이에만 유지되어 락 보유 시간이 짧음
+     * - 버전 충돌이 없으므로 재시도 폭주가 발생하지 않음
+     * - 멀티 인스턴스 환경에서도 동작
+     *
+     * 단점:
+     * - 재고 차감처럼 단순한 연산에만 적용 가능 (복잡한 검증 로직은 SQL로 표현하기 어려움)
+     * - 엔티티 상태를 거치지 않으므로 도메인 로직(Ticket.decreaseStock)이 우회됨
+     */
+    @Transactional
+    public void reserveTicketWithAtomicUpdate(Long ticketId, String userId) {
+        // 10ms 지연 (락을 잡기 전에 수행)
+        sleep(10);
+
+        // 1. 재고 확인 + 차감 (UPDATE ... WHERE stock > 0)
+        int updated = ticketRepository.decreaseStockIfAvailable(ticketId);
+        if (updated == 0) {
+            if (!ticketRepository.existsById(ticketId)) {
+                throw new IllegalArgumentException("티켓을 찾을 수 없습니다.");
+            }
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+
+        // 2. 예약 정보 저장
+        Reservation reservation = new Reservation(ticketId, userId);
+        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+
+        log.info("[Atomic Update] 예약 완료 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+    }
+
+    /**
+     * LV.2-5: In-Memory 재고 + Write-Behind
+     *
+     * 장점:
+     * - 재고 확인/차감을 메모리의 CAS 연산으로 처리하여 DB 왕복 없이 즉시 응답
+     * - DB 반영은 배치 단위(티켓별 UPDATE 한 번 + 예약 일괄 저장)로 뒤에서 수행
+     *
+     * 단점:
+     * - 단일 서버(JVM) 환경에서만 동작 (메모리 재고가 기준)
+     * - 응답 시점과 DB 반영 시점 사이에 지연이 있음 (최종 일관성)
+     * - 프로세스가 비정상 종료되면 반영되지 않은 예약이 유실될 수 있음
+     */
+    public void reserveTicketInMemory(Long ticketId, String userId) {
+        // 1. 메모리 재고 선점 (CAS)
+        if (!inMemoryTicketInventory.tryReserve(ticketId)) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+
+        // 2. 예약 정보는 Write-Behind 큐에 적재
+        reservationWriteBehindService.enqueue(ticketId, userId);
+
+        log.info("[In-Memory] 예약 완료 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+    }
+
     @Transactional(readOnly = true)
     public Ticket getTicket(Long ticketId) {
         return ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
     }
 
+    /**
+     * 티켓 조회 화면용 정보 (재고 + 예약 건수)
+     *
+     * - 예약 건수는 티켓 행에 함께 관리되는 reservedCount를 사용 (예약 테이블 COUNT 없음)
+     * - 조회 결과는 TicketViewCache에 짧게 보관되고, 예약이 커밋되면 무효화됨
+     */
+    public TicketResponse getTicketView(Long ticketId) {
+        return ticketViewCache.get(ticketId, id -> {
+            Ticket ticket = getTicket(id);
+            return new TicketResponse(
+                    ticket.getId(),
+                    ticket.getName(),
+                    ticket.getStock(),
+                    ticket.getReservedCount().longValue()
+            );
+        });
+    }
+
     @Transactional(readOnly = true)
     public long getReservationCount(Long ticketId) {
         return reservationRepository.countByTicketId(ticketId);
     }
 
+    /**
+     * 예매 트랜잭션의 시작~커밋/롤백 시간과 거절 사유 기록 (호출 경계가 @Transactional 프록시 경계)
+     * LV.2는 중복 구매를 확인하지 않으므로 트랜잭션 안의 IllegalStateException은 재고 부족,
+     * IllegalArgumentException은 없는 티켓 (버전 충돌은 거절이 아니라 재시도 대상)
+     */
+    private void runReservationTransaction(String strategy, Long ticketId, Runnable transaction) {
+        Timer.Sample sample = reservationMetrics.start();
+        try {
+            transaction.run();
+            reservationMetrics.recordTransaction(strategy, ticketId, sample, true);
+        } catch (RuntimeException e) {
+            reservationMetrics.recordTransaction(strategy, ticketId, sample, false);
+            if (e instanceof IllegalArgumentException) {
+                reservationMetrics.recordRejection(strategy, ticketId, "not_found");
+            } else if (e instanceof IllegalStateException) {
+                reservationMetrics.recordRejection(strategy, ticketId, "sold_out");
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 지수 백오프 + Full Jitter: 0 ~ min(최대, 기본 * 2^attempt) 사이 무작위 대기
+     */
+    private void backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << attempt);
+        sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
     private void sleep(long millis) {
         try {
             Thread.sleep(millis);
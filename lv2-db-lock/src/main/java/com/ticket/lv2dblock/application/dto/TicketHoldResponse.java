@@ -0,0 +1,10 @@
+package com.ticket.lv2dblock.application.dto;
+
+import java.time.LocalDateTime;
+
+public record TicketHoldResponse(
+        Long holdId,
+        Long ticketId,
+        String userId,
+        LocalDateTime expiresAt
+) {}
@@ -0,0 +1,13 @@
+package com.ticket.lv2dblock.domain;
+
+/**
+ * 선점 상태
+ *
+ * HELD에서만 다른 상태로 전이 가능 (확정/취소/만료 중 먼저 반영된 하나만 적용)
+ */
+public enum HoldStatus {
+    HELD,      // 결제 대기 중 (재고 차감됨)
+    CONFIRMED, // 결제 완료 → 예약으로 확정
+    RELEASED,  // 사용자가 취소 (재고 복구)
+    EXPIRED    // 만료 (재고 복구)
+}
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq_generator")
+    @SequenceGenerator(name = "ticket_seq_generator", sequenceName = "tickets_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -21,22 +22,27 @@ public class Ticket {
     @Column(nullable = false)
     private Integer stock;
 
+    @Column(nullable = false)
+    private Integer reservedCount; // 예약 건수 (재고 차감과 같은 트랜잭션에서 갱신)
+
     @Version
     private Long version; // Optimistic Lock용
 
     public Ticket(String name, Integer stock) {
         this.name = name;
         this.stock = stock;
+        this.reservedCount = 0;
     }
 
     /**
-     * 재고 차감
+     * 재고 차감 (예약 건수 함께 증가)
      */
     public void decreaseStock() {
         if (this.stock <= 0) {
             throw new IllegalStateException("재고가 부족합니다.");
         }
         this.stock--;
+        this.reservedCount++;
     }
 
     public boolean hasStock() {
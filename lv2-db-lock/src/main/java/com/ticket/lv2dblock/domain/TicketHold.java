@@ -0,0 +1,51 @@
+package com.ticket.lv2dblock.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대기 중인 임시 선점
+ *
+ * - 선점 시점에 재고를 차감하고, 만료/취소되면 재고를 되돌림
+ * - 상태 전이는 조건부 UPDATE(status = HELD)로만 수행하여 확정과 만료가 겹쳐도 하나만 반영
+ * - (ticket_id, user_id) WHERE status = 'HELD' 부분 유니크 인덱스로 사용자별 진행 중 선점은 하나만 허용 (import.sql)
+ */
+@Entity
+@Table(name = "ticket_holds", indexes = @Index(name = "idx_ticket_holds_status", columnList = "status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TicketHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_hold_seq_generator")
+    @SequenceGenerator(name = "ticket_hold_seq_generator", sequenceName = "ticket_holds_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long ticketId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private HoldStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime heldAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public TicketHold(Long ticketId, String userId, LocalDateTime heldAt, LocalDateTime expiresAt) {
+        this.ticketId = ticketId;
+        this.userId = userId;
+        this.status = HoldStatus.HELD;
+        this.heldAt = heldAt;
+        this.expiresAt = expiresAt;
+    }
+}
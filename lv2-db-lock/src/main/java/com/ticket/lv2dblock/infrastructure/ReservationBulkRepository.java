@@ -0,0 +1,13 @@
+package com.ticket.lv2dblock.infrastructure;
+
+import com.ticket.lv2dblock.domain.Reservation;
+
+import java.util.List;
+
+/**
+ * 예약 정보 일괄 저장 API (배치 Consumer, Write-Behind 등 여러 건을 한 번에 쓰는 곳에서 사용)
+ */
+public interface ReservationBulkRepository {
+
+    void persistAll(List<Reservation> reservations);
+}
@@ -3,6 +3,8 @@ package com.ticket.lv2dblock.infrastructure;
 import com.ticket.lv2dblock.domain.Reservation;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationBulkRepository {
     long countByTicketId(Long ticketId);
+
+    boolean existsByTicketIdAndUserId(Long ticketId, String userId);
 }
@@ -0,0 +1,43 @@
+package com.ticket.lv2dblock.infrastructure;
+
+import com.ticket.lv2dblock.domain.HoldStatus;
+import com.ticket.lv2dblock.domain.TicketHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TicketHoldRepository extends JpaRepository<TicketHold, Long> {
+
+    /**
+     * 조건부 상태 전이
+     * UPDATE ticket_holds SET status = ? WHERE id = ? AND status = 'HELD'
+     * 영향받은 row 수(0 또는 1)로 이번 전이가 반영되었는지 판단 (확정/취소/만료 경합 시 하나만 성공)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TicketHold h SET h.status = :to WHERE h.id = :id AND h.status = com.ticket.lv2dblock.domain.HoldStatus.HELD")
+    int transitionFromHeld(@Param("id") Long id, @Param("to") HoldStatus to);
+
+    /**
+     * 만료 시각 전인 선점만 확정 (타이밍 휠이 만료를 처리하기 전 tick 사이의 확정 요청도 거절)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TicketHold h SET h.status = com.ticket.lv2dblock.domain.HoldStatus.CONFIRMED WHERE h.id = :id AND h.status = com.ticket.lv2dblock.domain.HoldStatus.HELD AND h.expiresAt > :now")
+    int confirmIfNotExpired(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 재시작 시 타이밍 휠을 다시 채우기 위한 진행 중 선점 목록 (ID와 만료 시각만 조회)
+     */
+    List<PendingHold> findByStatus(HoldStatus status);
+
+    long countByTicketIdAndStatus(Long ticketId, HoldStatus status);
+
+    interface PendingHold {
+        Long getId();
+
+        LocalDateTime getExpiresAt();
+    }
+}
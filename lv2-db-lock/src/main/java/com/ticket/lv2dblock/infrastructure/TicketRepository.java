@@ -4,9 +4,12 @@ import com.ticket.lv2dblock.domain.Ticket;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
@@ -19,6 +22,15 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     @Query("SELECT t FROM Ticket t WHERE t.id = :id")
     Optional<Ticket> findByIdWithPessimisticLock(@Param("id") Long id);
 
+    /**
+     * Pessimistic Lock (여러 티켓)
+     * SELECT ... WHERE id IN (...) ORDER BY id FOR UPDATE
+     * 정렬 후 행 락을 잡으므로 모든 트랜잭션이 같은 순서(ID 오름차순)로 락을 획득 (교착 상태 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Ticket t WHERE t.id IN :ids ORDER BY t.id")
+    List<Ticket> findAllByIdInWithPessimisticLock(@Param("ids") Collection<Long> ids);
+
     /**
      * Optimistic Lock (낙관적 락)
      * @Version을 이용한 버전 관리
@@ -26,4 +38,43 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT t FROM Ticket t WHERE t.id = :id")
     Optional<Ticket> findByIdWithOptimisticLock(@Param("id") Long id);
+
+    /**
+     * 조건부 UPDATE (Lock-free)
+     * UPDATE tickets SET stock = stock - 1 WHERE id = ? AND stock > 0
+     * 영향받은 row 수(0 또는 1)로 예매 성공 여부를 판단
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.stock = t.stock - 1, t.reservedCount = t.reservedCount + 1, t.version = t.version + 1 WHERE t.id = :id AND t.stock > 0")
+    int decreaseStockIfAvailable(@Param("id") Long id);
+
+    /**
+     * 조건부 UPDATE (수량 단위 차감)
+     * Write-Behind 배치 반영 등 여러 건을 한 번에 차감할 때 사용
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.stock = t.stock - :quantity, t.reservedCount = t.reservedCount + :quantity, t.version = t.version + 1 WHERE t.id = :id AND t.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 조건부 UPDATE (임시 선점)
+     * 재고만 차감하고 예약 건수는 확정 시점에 증가
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.stock = t.stock - 1, t.version = t.version + 1 WHERE t.id = :id AND t.stock > 0")
+    int holdStock(@Param("id") Long id);
+
+    /**
+     * 선점 취소/만료 시 재고 복구
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.stock = t.stock + 1, t.version = t.version + 1 WHERE t.id = :id")
+    int restoreStock(@Param("id") Long id);
+
+    /**
+     * 선점 확정 시 예약 건수 증가 (재고는 선점 시점에 이미 차감됨)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.reservedCount = t.reservedCount + 1, t.version = t.version + 1 WHERE t.id = :id")
+    int increaseReservedCount(@Param("id") Long id);
 }
@@ -1,18 +1,23 @@
 package com.ticket.lv2dblock.presentation;
 
+import com.ticket.lv2dblock.application.TicketHoldService;
+import com.ticket.lv2dblock.application.dto.TicketHoldResponse;
 import com.ticket.lv2dblock.application.dto.TicketResponse;
-import com.ticket.lv2dblock.domain.Ticket;
 import com.ticket.lv2dblock.application.TicketService;
+import com.ticket.lv2dblock.domain.TicketHold;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/tickets")
 @RequiredArgsConstructor
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketHoldService ticketHoldService;
 
     @PostMapping("/{ticketId}/reserve/synchronized")
     public ResponseEntity<String> reserveTicketWithSynchronized(
@@ -23,6 +28,15 @@ public class TicketController {
         return ResponseEntity.ok("예매 성공 (Synchronized)");
     }
 
+    @PostMapping("/{ticketId}/reserve/striped")
+    public ResponseEntity<String> reserveTicketWithStripedLock(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        ticketService.reserveTicketWithStripedLock(ticketId, userId);
+        return ResponseEntity.ok("예매 성공 (Striped Lock)");
+    }
+
     @PostMapping("/{ticketId}/reserve/pessimistic")
     public ResponseEntity<String> reserveTicketWithPessimisticLock(
             @PathVariable Long ticketId,
@@ -32,6 +46,15 @@ public class TicketController {
         return ResponseEntity.ok("예매 성공 (Pessimistic Lock)");
     }
 
+    @PostMapping("/cart/reserve/pessimistic")
+    public ResponseEntity<String> reserveCartWithPessimisticLock(
+            @RequestParam List<Long> ticketIds,
+            @RequestParam String userId) {
+
+        ticketService.reserveCartWithPessimisticLock(ticketIds, userId);
+        return ResponseEntity.ok("예매 성공 (Cart Pessimistic Lock)");
+    }
+
     @PostMapping("/{ticketId}/reserve/optimistic")
     public ResponseEntity<String> reserveTicketWithOptimisticLock(
             @PathVariable Long ticketId,
@@ -41,21 +64,72 @@ public class TicketController {
         return ResponseEntity.ok("예매 성공 (Optimistic Lock)");
     }
 
+    @PostMapping("/{ticketId}/reserve/adaptive")
+    public ResponseEntity<String> reserveTicketWithAdaptiveLock(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        ticketService.reserveTicketWithAdaptiveLock(ticketId, userId);
+        return ResponseEntity.ok("예매 성공 (Adaptive Lock)");
+    }
+
+    @PostMapping("/{ticketId}/reserve/atomic")
+    public ResponseEntity<String> reserveTicketWithAtomicUpdate(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        ticketService.reserveTicketWithAtomicUpdate(ticketId, userId);
+        return ResponseEntity.ok("예매 성공 (Atomic Update)");
+    }
+
+    @PostMapping("/{ticketId}/reserve/in-memory")
+    public ResponseEntity<String> reserveTicketInMemory(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        ticketService.reserveTicketInMemory(ticketId, userId);
+        return ResponseEntity.ok("예매 성공 (In-Memory)");
+    }
+
+    @PostMapping("/{ticketId}/hold")
+    public ResponseEntity<TicketHoldResponse> holdTicket(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        TicketHold hold = ticketHoldService.hold(ticketId, userId);
+        return ResponseEntity.ok(new TicketHoldResponse(hold.getId(), hold.getTicketId(), hold.getUserId(), hold.getExpiresAt()));
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<String> confirmHold(
+            @PathVariable Long holdId,
+            @RequestParam String userId) {
+
+        ticketHoldService.confirm(holdId, userId);
+        return ResponseEntity.ok("예매 성공 (Hold 확정)");
+    }
+
+    @PostMapping("/holds/{holdId}/release")
+    public ResponseEntity<String> releaseHold(
+            @PathVariable Long holdId,
+            @RequestParam String userId) {
+
+        ticketHoldService.release(holdId, userId);
+        return ResponseEntity.ok("선점 취소");
+    }
+
     @GetMapping("/{ticketId}")
     public ResponseEntity<TicketResponse> getTicket(@PathVariable Long ticketId) {
-        Ticket ticket = ticketService.getTicket(ticketId);
-        long reservationCount = ticketService.getReservationCount(ticketId);
-
-        return ResponseEntity.ok(new TicketResponse(
-                ticket.getId(),
-                ticket.getName(),
-                ticket.getStock(),
-                reservationCount
-        ));
+        return ResponseEntity.ok(ticketService.getTicketView(ticketId));
     }
 
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<String> handleIllegalStateException(IllegalStateException e) {
         return ResponseEntity.badRequest().body(e.getMessage());
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
 }
@@ -0,0 +1,3 @@
+-- ddl-auto: create 후 Hibernate가 실행 (JPA 어노테이션으로는 부분 인덱스를 선언할 수 없음)
+-- 사용자별로 진행 중(HELD)인 선점은 티켓당 하나만 허용 (확정/취소/만료된 선점은 제외)
+CREATE UNIQUE INDEX uk_ticket_holds_ticket_user_held ON ticket_holds (ticket_id, user_id) WHERE status = 'HELD';
@@ -1,5 +1,8 @@
 package com.ticket.lv2dblock;
 
+import com.ticket.lv2dblock.application.InMemoryTicketInventory;
+import com.ticket.lv2dblock.application.ReservationWriteBehindService;
+import com.ticket.lv2dblock.application.TicketContentionMonitor;
 import com.ticket.lv2dblock.domain.Ticket;
 import com.ticket.lv2dblock.infrastructure.ReservationRepository;
 import com.ticket.lv2dblock.infrastructure.TicketRepository;
@@ -9,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -21,7 +25,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  *
  * 1. Synchronized 키워드
  * 2. Pessimistic Lock (비관적 락)
- * 3. Optimistic Lock (낙관적 락)
+ * 3. Optimistic Lock (낙관적 락) / Adaptive Lock (충돌률에 따라 낙관적/비관적 전환)
+ * 4. Atomic Update (조건부 UPDATE)
+ * 5. In-Memory 재고 + Write-Behind
  */
 @SpringBootTest
 class ConcurrencySolutionTest {
@@ -35,6 +41,18 @@ class ConcurrencySolutionTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private ReservationWriteBehindService reservationWriteBehindService;
+
+    @Autowired
+    private TicketContentionMonitor ticketContentionMonitor;
+
+    @Autowired
+    private InMemoryTicketInventory inMemoryTicketInventory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private Long ticketId;
     private static final int INITIAL_STOCK = 100;
     private static final int CONCURRENT_USERS = 1000;
@@ -69,6 +87,7 @@ class ConcurrencySolutionTest {
 
         assertEquals(0, finalStock);
         assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
     }
 
     @Test
@@ -92,6 +111,7 @@ class ConcurrencySolutionTest {
 
         assertEquals(0, finalStock);
         assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
     }
 
     @Test
@@ -115,6 +135,105 @@ class ConcurrencySolutionTest {
 
         assertEquals(0, finalStock);
         assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+    }
+
+    @Test
+    @DisplayName("Adaptive Lock - 100개 티켓을 1000명이 동시 예매 (충돌이 잦으면 비관적 락으로 전환)")
+    void testAdaptiveLock() throws InterruptedException {
+        // given
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+
+        // when
+        List<Thread> workers = Stream
+                .generate(() -> new Thread(new AdaptiveLockWorker(ticketId, countDownLatch)))
+                .limit(people)
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        // then
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+        long reservationCount = ticketService.getReservationCount(ticketId);
+
+        assertEquals(0, finalStock);
+        assertEquals(INITIAL_STOCK, reservationCount);
+        System.out.printf("[Adaptive Lock] 최종 모드: %s, 충돌률: %.2f%n",
+                ticketContentionMonitor.isPessimistic(ticketId) ? "PESSIMISTIC" : "OPTIMISTIC",
+                ticketContentionMonitor.getConflictRate(ticketId));
+    }
+
+    @Test
+    @DisplayName("Atomic Update - 100개 티켓을 1000명이 동시 예매")
+    void testAtomicUpdate() throws InterruptedException {
+        // given
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+
+        // when
+        List<Thread> workers = Stream
+                .generate(() -> new Thread(new AtomicUpdateWorker(ticketId, countDownLatch)))
+                .limit(people)
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        // then
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+        long reservationCount = ticketService.getReservationCount(ticketId);
+
+        assertEquals(0, finalStock);
+        assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+    }
+
+    @Test
+    @DisplayName("In-Memory + Write-Behind - 100개 티켓을 1000명이 동시 예매")
+    void testInMemoryWriteBehind() throws InterruptedException {
+        // given
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+
+        // when
+        List<Thread> workers = Stream
+                .generate(() -> new Thread(new InMemoryWorker(ticketId, countDownLatch)))
+                .limit(people)
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        // 남은 예약을 DB에 반영
+        reservationWriteBehindService.flush();
+
+        // then
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+        long reservationCount = ticketService.getReservationCount(ticketId);
+
+        assertEquals(0, finalStock);
+        assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+    }
+
+    @Test
+    @DisplayName("In-Memory + Write-Behind - DB 재고와 어긋난 예약은 폐기하고 인메모리 재고를 DB 기준으로 재동기화")
+    void testWriteBehindStockMismatchIsDiscarded() {
+        // given - 인메모리 재고를 먼저 적재한 뒤 DB 재고만 다른 경로로 차감
+        inMemoryTicketInventory.getStock(ticketId);
+        transactionTemplate.executeWithoutResult(status -> ticketRepository.decreaseStock(ticketId, INITIAL_STOCK - 2));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            ticketService.reserveTicketInMemory(ticketId, "user-" + i);
+        }
+        reservationWriteBehindService.flush();
+
+        // then - 큐가 막히지 않고, 메모리 재고는 DB 재고와 같아짐
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+
+        assertEquals(0, reservationWriteBehindService.getPendingCount());
+        assertEquals(finalStock, inMemoryTicketInventory.getStock(ticketId));
+        assertEquals(2 - finalStock, ticketService.getReservationCount(ticketId));
     }
 
     /**
@@ -191,4 +310,79 @@ class ConcurrencySolutionTest {
             }
         }
     }
+
+    /**
+     * Adaptive Lock Worker
+     */
+    private class AdaptiveLockWorker implements Runnable {
+        private final Long ticketId;
+        private final CountDownLatch countDownLatch;
+
+        public AdaptiveLockWorker(Long ticketId, CountDownLatch countDownLatch) {
+            this.ticketId = ticketId;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                String userId = "user-" + Thread.currentThread().threadId();
+                ticketService.reserveTicketWithAdaptiveLock(ticketId, userId);
+            } catch (Exception e) {
+                // 재고 부족 등의 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+
+    /**
+     * Atomic Update Worker
+     */
+    private class AtomicUpdateWorker implements Runnable {
+        private final Long ticketId;
+        private final CountDownLatch countDownLatch;
+
+        public AtomicUpdateWorker(Long ticketId, CountDownLatch countDownLatch) {
+            this.ticketId = ticketId;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                String userId = "user-" + Thread.currentThread().threadId();
+                ticketService.reserveTicketWithAtomicUpdate(ticketId, userId);
+            } catch (Exception e) {
+                // 재고 부족 등의 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+
+    /**
+     * In-Memory Worker
+     */
+    private class InMemoryWorker implements Runnable {
+        private final Long ticketId;
+        private final CountDownLatch countDownLatch;
+
+        public InMemoryWorker(Long ticketId, CountDownLatch countDownLatch) {
+            this.ticketId = ticketId;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                String userId = "user-" + Thread.currentThread().threadId();
+                ticketService.reserveTicketInMemory(ticketId, userId);
+            } catch (Exception e) {
+                // 재고 부족 등의 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package com.ticket.lv2dblock;
+
+import com.ticket.lv2dblock.application.TicketService;
+import com.ticket.lv2dblock.domain.Ticket;
+import com.ticket.lv2dblock.infrastructure.ReservationRepository;
+import com.ticket.lv2dblock.infrastructure.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * LV.2: 여러 티켓에 동시 예매가 몰리는 경우 비교 테스트
+ *
+ * synchronized는 티켓과 무관하게 모든 예매를 직렬화하지만,
+ * Striped Lock은 티켓 단위로 락을 분리하므로 티켓 수가 늘수록 처리량이 증가한다.
+ */
+@SpringBootTest
+class MultiTicketConcurrencyTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private static final int STOCK_PER_TICKET = 10;
+    private static final int USERS_PER_TICKET = 20;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        ticketRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "Striped Lock - 티켓 {0}개에 동시 예매")
+    @ValueSource(ints = {1, 4, 8})
+    void testStripedLockPerTicketConsistency(int ticketCount) throws InterruptedException {
+        // given
+        List<Long> ticketIds = createTickets(ticketCount);
+
+        // when
+        long duration = runConcurrently(ticketIds, ticketService::reserveTicketWithStripedLock);
+
+        // then
+        for (Long ticketId : ticketIds) {
+            assertEquals(0, ticketService.getTicket(ticketId).getStock());
+            assertEquals(STOCK_PER_TICKET, ticketService.getReservationCount(ticketId));
+        }
+        System.out.printf("[Striped Lock] 티켓 %d개, 예매 %d건: %dms (%.1f건/초)%n",
+                ticketCount, ticketCount * STOCK_PER_TICKET, duration,
+                ticketCount * STOCK_PER_TICKET * 1000.0 / duration);
+    }
+
+    @Test
+    @DisplayName("Synchronized vs Striped Lock - 티켓 8개에 동시 예매 시 처리 시간 비교")
+    void testStripedLockScalesWithDistinctTickets() throws InterruptedException {
+        // given
+        final int ticketCount = 8;
+        List<Long> synchronizedTicketIds = createTickets(ticketCount);
+        List<Long> stripedTicketIds = createTickets(ticketCount);
+
+        // when
+        long synchronizedDuration = runConcurrently(synchronizedTicketIds, ticketService::reserveTicketWithSynchronized);
+        long stripedDuration = runConcurrently(stripedTicketIds, ticketService::reserveTicketWithStripedLock);
+
+        // then - 처리 시간은 실행 환경에 따라 달라지므로 정합성만 검증하고 시간은 출력으로 비교
+        for (Long ticketId : synchronizedTicketIds) {
+            assertEquals(0, ticketService.getTicket(ticketId).getStock());
+            assertEquals(STOCK_PER_TICKET, ticketService.getReservationCount(ticketId));
+        }
+        for (Long ticketId : stripedTicketIds) {
+            assertEquals(0, ticketService.getTicket(ticketId).getStock());
+            assertEquals(STOCK_PER_TICKET, ticketService.getReservationCount(ticketId));
+        }
+
+        System.out.printf("[Synchronized] 티켓 %d개: %dms / [Striped Lock] 티켓 %d개: %dms%n",
+                ticketCount, synchronizedDuration, ticketCount, stripedDuration);
+    }
+
+    private List<Long> createTickets(int ticketCount) {
+        List<Long> ticketIds = new ArrayList<>();
+        for (int i = 0; i < ticketCount; i++) {
+            Ticket ticket = ticketRepository.save(new Ticket("테스트 콘서트 티켓 " + i, STOCK_PER_TICKET));
+            ticketIds.add(ticket.getId());
+        }
+        return ticketIds;
+    }
+
+    private long runConcurrently(List<Long> ticketIds, BiConsumer<Long, String> reservation) throws InterruptedException {
+        final int people = ticketIds.size() * USERS_PER_TICKET;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < people; i++) {
+            Long ticketId = ticketIds.get(i % ticketIds.size());
+            workers.add(new Thread(() -> {
+                try {
+                    String userId = "user-" + Thread.currentThread().threadId();
+                    reservation.accept(ticketId, userId);
+                } catch (Exception e) {
+                    // 재고 부족 등의 예외는 무시
+                } finally {
+                    countDownLatch.countDown();
+                }
+            }));
+        }
+
+        long startTime = System.currentTimeMillis();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+        return System.currentTimeMillis() - startTime;
+    }
+}
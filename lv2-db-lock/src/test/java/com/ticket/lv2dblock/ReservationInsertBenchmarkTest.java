@@ -0,0 +1,81 @@
+package com.ticket.lv2dblock;
+
+import com.ticket.lv2dblock.domain.Reservation;
+import com.ticket.lv2dblock.infrastructure.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 예약 10,000건 저장 시 초당 처리 건수 비교
+ *
+ * 1. 배치 없음: 한 건마다 INSERT 왕복 (IDENTITY 전략과 동일한 전송 방식)
+ * 2. JDBC 배치: 시퀀스(pooled-lo) ID + persistAll (batch_size 단위 전송)
+ */
+@SpringBootTest
+class ReservationInsertBenchmarkTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static final long TICKET_ID = 1L;
+    private static final int ROWS = 10_000;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("예약 10,000건 저장 - 건별 INSERT vs JDBC 배치 INSERT")
+    void benchmarkReservationInsert() {
+        // 1. 배치 없음 (건별 INSERT)
+        long rowByRowMillis = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            createReservations("row-").forEach(reservationRepository::save);
+        }));
+        assertEquals(ROWS, reservationRepository.count());
+
+        reservationRepository.deleteAllInBatch();
+
+        // 2. JDBC 배치 INSERT
+        long batchedMillis = measure(() -> transactionTemplate.executeWithoutResult(status ->
+                reservationRepository.persistAll(createReservations("batch-"))));
+        assertEquals(ROWS, reservationRepository.count());
+
+        System.out.printf("[Insert Benchmark] 건별 INSERT: %dms (%.0f건/초), JDBC 배치: %dms (%.0f건/초)%n",
+                rowByRowMillis, rowsPerSecond(rowByRowMillis), batchedMillis, rowsPerSecond(batchedMillis));
+    }
+
+    private List<Reservation> createReservations(String userPrefix) {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> new Reservation(TICKET_ID, userPrefix + i))
+                .toList();
+    }
+
+    private long measure(Runnable task) {
+        long startTime = System.currentTimeMillis();
+        task.run();
+        return Math.max(1, System.currentTimeMillis() - startTime);
+    }
+
+    private double rowsPerSecond(long millis) {
+        return ROWS * 1000.0 / millis;
+    }
+}
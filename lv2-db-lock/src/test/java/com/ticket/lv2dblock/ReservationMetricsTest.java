@@ -0,0 +1,123 @@
+package com.ticket.lv2dblock;
+
+import com.ticket.lv2dblock.application.TicketService;
+import com.ticket.lv2dblock.domain.Ticket;
+import com.ticket.lv2dblock.infrastructure.ReservationRepository;
+import com.ticket.lv2dblock.infrastructure.TicketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 예매 전략별 지표 기록 테스트
+ *
+ * 재고 10개에 20명이 비관적 락으로 예매하면
+ * 20건 모두 행 락 대기/보유 시간이 기록되고, 커밋 10건 / 롤백(재고 부족 거절) 10건이 기록되어야 한다.
+ */
+@SpringBootTest
+class ReservationMetricsTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long ticketId;
+    private String ticketBucket;
+
+    private static final int STOCK = 10;
+    private static final int PEOPLE = 20;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        ticketRepository.deleteAll();
+
+        ticketId = ticketRepository.save(new Ticket("테스트 콘서트 티켓", STOCK)).getId();
+        ticketBucket = String.valueOf(Math.floorMod(ticketId, 16));
+    }
+
+    @Test
+    @DisplayName("비관적 락 - 락 대기/보유, 트랜잭션 결과, 거절 사유별 지표 기록")
+    void testPessimisticLockMetrics() throws InterruptedException {
+        // given (같은 구간의 다른 테스트 기록과 섞이지 않도록 증가분으로 비교)
+        long lockWaitBefore = timerCount("ticket.reservation.lock.wait");
+        long lockHoldBefore = timerCount("ticket.reservation.lock.hold");
+        long committedBefore = timerCount("ticket.reservation.transaction", "outcome", "committed");
+        long rolledBackBefore = timerCount("ticket.reservation.transaction", "outcome", "rolled_back");
+        double soldOutBefore = counterCount("ticket.reservation.rejections", "reason", "sold_out");
+
+        final CountDownLatch countDownLatch = new CountDownLatch(PEOPLE);
+
+        // when
+        List<Thread> workers = Stream
+                .generate(() -> new Thread(new Worker(countDownLatch)))
+                .limit(PEOPLE)
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        // then
+        assertEquals(PEOPLE, timerCount("ticket.reservation.lock.wait") - lockWaitBefore);
+        assertEquals(PEOPLE, timerCount("ticket.reservation.lock.hold") - lockHoldBefore);
+        assertEquals(STOCK, timerCount("ticket.reservation.transaction", "outcome", "committed") - committedBefore);
+        assertEquals(PEOPLE - STOCK, timerCount("ticket.reservation.transaction", "outcome", "rolled_back") - rolledBackBefore);
+        assertEquals(PEOPLE - STOCK, counterCount("ticket.reservation.rejections", "reason", "sold_out") - soldOutBefore);
+    }
+
+    private long timerCount(String name, String... tags) {
+        return meterRegistry.find(name)
+                .tags("strategy", "pessimistic", "ticketBucket", ticketBucket)
+                .tags(tags)
+                .timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private double counterCount(String name, String... tags) {
+        return meterRegistry.find(name)
+                .tags("strategy", "pessimistic", "ticketBucket", ticketBucket)
+                .tags(tags)
+                .counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private class Worker implements Runnable {
+        private final CountDownLatch countDownLatch;
+
+        public Worker(CountDownLatch countDownLatch) {
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                String userId = "user-" + Thread.currentThread().threadId();
+                ticketService.reserveTicketWithPessimisticLock(ticketId, userId);
+            } catch (Exception e) {
+                // 재고 부족 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+}
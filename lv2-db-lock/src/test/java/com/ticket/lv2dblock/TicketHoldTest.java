@@ -0,0 +1,156 @@
+package com.ticket.lv2dblock;
+
+import com.ticket.lv2dblock.application.TicketHoldService;
+import com.ticket.lv2dblock.application.TicketService;
+import com.ticket.lv2dblock.domain.HoldStatus;
+import com.ticket.lv2dblock.domain.Ticket;
+import com.ticket.lv2dblock.domain.TicketHold;
+import com.ticket.lv2dblock.infrastructure.ReservationRepository;
+import com.ticket.lv2dblock.infrastructure.TicketHoldRepository;
+import com.ticket.lv2dblock.infrastructure.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * LV.2-6: 임시 선점 + 타이밍 휠 만료 테스트
+ *
+ * 재고 100개에 200명이 동시에 선점하면 100명만 선점되고,
+ * 그중 일부만 결제(확정)하면 나머지는 TTL이 지난 뒤 자동으로 재고가 복구되어야 한다.
+ */
+@SpringBootTest(properties = "ticket.hold.ttl-seconds=2")
+class TicketHoldTest {
+
+    @Autowired
+    private TicketHoldService ticketHoldService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketHoldRepository ticketHoldRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Long ticketId;
+
+    private static final int STOCK = 100;
+    private static final int PEOPLE = 200;
+    private static final int CONFIRMED = 30;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        ticketHoldRepository.deleteAll();
+        ticketRepository.deleteAll();
+
+        Ticket ticket = new Ticket("테스트 콘서트 티켓", STOCK);
+        ticketId = ticketRepository.save(ticket).getId();
+    }
+
+    @Test
+    @DisplayName("선점 후 결제하지 않은 재고는 TTL이 지나면 자동으로 복구된다")
+    void testHoldExpiresAndRestoresStock() throws InterruptedException {
+        // given
+        final CountDownLatch countDownLatch = new CountDownLatch(PEOPLE);
+        final ConcurrentLinkedQueue<TicketHold> holds = new ConcurrentLinkedQueue<>();
+
+        // when - 동시에 선점
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < PEOPLE; i++) {
+            workers.add(new Thread(new Worker(countDownLatch, holds, "user-" + i)));
+        }
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        // then - 재고만큼만 선점되고, 확정 전에는 예약이 없음
+        assertEquals(STOCK, holds.size());
+        assertEquals(0, ticketService.getTicket(ticketId).getStock());
+        assertEquals(0, reservationRepository.countByTicketId(ticketId));
+
+        // when - 일부만 결제
+        holds.stream().limit(CONFIRMED).forEach(hold -> ticketHoldService.confirm(hold.getId(), hold.getUserId()));
+
+        // then - TTL(2초)이 지나면 결제하지 않은 선점의 재고가 복구됨
+        Thread.sleep(3_000);
+        Ticket ticket = ticketService.getTicket(ticketId);
+        assertEquals(STOCK - CONFIRMED, ticket.getStock());
+        assertEquals(CONFIRMED, ticket.getReservedCount());
+        assertEquals(CONFIRMED, reservationRepository.countByTicketId(ticketId));
+        assertEquals(STOCK - CONFIRMED, ticketHoldRepository.countByTicketIdAndStatus(ticketId, HoldStatus.EXPIRED));
+
+        // 만료된 선점은 확정할 수 없음
+        TicketHold expired = holds.stream().skip(CONFIRMED).findFirst().orElseThrow();
+        assertThrows(IllegalStateException.class, () -> ticketHoldService.confirm(expired.getId(), expired.getUserId()));
+    }
+
+    @Test
+    @DisplayName("취소한 선점은 즉시 재고가 복구되고 만료 시 다시 복구되지 않는다")
+    void testReleaseRestoresStockOnce() throws InterruptedException {
+        // given
+        TicketHold hold = ticketHoldService.hold(ticketId, "user-release");
+
+        // when
+        ticketHoldService.release(hold.getId(), "user-release");
+
+        // then
+        assertEquals(STOCK, ticketService.getTicket(ticketId).getStock());
+        Thread.sleep(3_000);
+        assertEquals(STOCK, ticketService.getTicket(ticketId).getStock());
+        assertEquals(1, ticketHoldRepository.countByTicketIdAndStatus(ticketId, HoldStatus.RELEASED));
+    }
+
+    @Test
+    @DisplayName("진행 중인 선점이나 예약이 있는 사용자는 다시 선점할 수 없다")
+    void testDuplicateHoldIsRejected() {
+        // given
+        TicketHold hold = ticketHoldService.hold(ticketId, "user-duplicate");
+
+        // when & then - 진행 중인 선점이 있으면 거절 (재고는 한 번만 차감)
+        assertThrows(IllegalStateException.class, () -> ticketHoldService.hold(ticketId, "user-duplicate"));
+        assertEquals(STOCK - 1, ticketService.getTicket(ticketId).getStock());
+
+        // when & then - 확정 후에도 거절
+        ticketHoldService.confirm(hold.getId(), "user-duplicate");
+        assertThrows(IllegalStateException.class, () -> ticketHoldService.hold(ticketId, "user-duplicate"));
+        assertEquals(STOCK - 1, ticketService.getTicket(ticketId).getStock());
+        assertEquals(1, reservationRepository.countByTicketId(ticketId));
+    }
+
+    private class Worker implements Runnable {
+        private final CountDownLatch countDownLatch;
+        private final ConcurrentLinkedQueue<TicketHold> holds;
+        private final String userId;
+
+        public Worker(CountDownLatch countDownLatch, ConcurrentLinkedQueue<TicketHold> holds, String userId) {
+            this.countDownLatch = countDownLatch;
+            this.holds = holds;
+            this.userId = userId;
+        }
+
+        @Override
+        public void run() {
+            try {
+                holds.add(ticketHoldService.hold(ticketId, userId));
+            } catch (Exception e) {
+                // 재고 부족 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+}
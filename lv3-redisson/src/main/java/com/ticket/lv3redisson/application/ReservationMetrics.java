@@ -0,0 +1,72 @@
+package com.ticket.lv3redisson.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 예매 전략별 지연 시간 분해 지표 (락 대기 / 락 보유 / 트랜잭션 / 거절)
+ *
+ * - 모든 지표에 strategy(예매 방식)와 ticketBucket(티켓 ID % 16) 태그를 붙임
+ *   (티켓 ID를 그대로 태그로 쓰면 티켓 수만큼 시계열이 늘어나므로 16개 구간으로 묶음)
+ * - Timer는 퍼센타일 히스토그램을 함께 내보내므로 Prometheus에서 histogram_quantile로 p95/p99 계산 가능
+ * - 분산 락 보유 시간은 트랜잭션 커밋 이후 락 해제까지 포함 (락 해제 전에 커밋이 끝나므로)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationMetrics {
+
+    public static final String REDISSON_LOCK = "redisson_lock";
+    public static final String REDISSON_ASYNC_LOCK = "redisson_async_lock";
+
+    private static final int TICKET_BUCKETS = 16;
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordLockWait(String strategy, Long ticketId, Timer.Sample sample, boolean acquired) {
+        sample.stop(timer("ticket.reservation.lock.wait", "락 획득까지 대기한 시간",
+                tags(strategy, ticketId).and("acquired", String.valueOf(acquired))));
+    }
+
+    public void recordLockHold(String strategy, Long ticketId, Timer.Sample sample) {
+        sample.stop(timer("ticket.reservation.lock.hold", "락을 잡고 있던 시간", tags(strategy, ticketId)));
+    }
+
+    public void recordTransaction(String strategy, Long ticketId, Timer.Sample sample, boolean committed) {
+        sample.stop(timer("ticket.reservation.transaction", "예매 트랜잭션 시작부터 커밋/롤백까지 걸린 시간",
+                tags(strategy, ticketId).and("outcome", committed ? "committed" : "rolled_back")));
+    }
+
+    public void recordRejection(String strategy, Long ticketId, String reason) {
+        Counter.builder("ticket.reservation.rejections")
+                .description("사유별 예매 거절 건수")
+                .tags(tags(strategy, ticketId).and("reason", reason))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private Tags tags(String strategy, Long ticketId) {
+        return Tags.of("strategy", strategy, "ticketBucket", String.valueOf(Math.floorMod(ticketId, TICKET_BUCKETS)));
+    }
+}
@@ -0,0 +1,133 @@
+package com.ticket.lv3redisson.application;
+
+import com.ticket.lv3redisson.application.dto.SeatClaimResponse;
+import com.ticket.lv3redisson.application.dto.SeatMapResponse;
+import com.ticket.lv3redisson.domain.SeatReservation;
+import com.ticket.lv3redisson.infrastructure.SeatLayout;
+import com.ticket.lv3redisson.infrastructure.SeatMapRepository;
+import com.ticket.lv3redisson.infrastructure.SeatReservationRepository;
+import com.ticket.lv3redisson.infrastructure.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatService {
+
+    private final TicketRepository ticketRepository;
+    private final SeatReservationRepository seatReservationRepository;
+    private final SeatMapRepository seatMapRepository;
+
+    /**
+     * 공연 좌석 배치 등록 (재고 모델과 별개로 지정석 판매에 사용)
+     */
+    public SeatMapResponse initializeLayout(Long ticketId, int rows, int seatsPerRow) {
+        if (rows <= 0 || seatsPerRow <= 0) {
+            throw new IllegalArgumentException("좌석 배치는 1열, 열당 1석 이상이어야 합니다.");
+        }
+        if (!ticketRepository.existsById(ticketId)) {
+            throw new IllegalArgumentException("티켓을 찾을 수 없습니다.");
+        }
+
+        SeatLayout layout = seatMapRepository.initializeLayoutIfAbsent(ticketId, new SeatLayout(rows, seatsPerRow));
+        return toResponse(ticketId, layout);
+    }
+
+    public SeatMapResponse getSeatMap(Long ticketId) {
+        return toResponse(ticketId, getLayout(ticketId));
+    }
+
+    /**
+     * LV.3-5: 좌석 비트맵 (특정 좌석 선택)
+     *
+     * 장점:
+     * - 좌석 점유가 SETBIT 한 번 (락/DB 행 락 없이 같은 공연에 초당 수천 건 처리 가능)
+     * - 같은 좌석을 동시에 선택하면 이전 비트가 0이었던 요청 하나만 성공
+     * - 좌석 5,000개의 상태가 625바이트
+     *
+     * 단점:
+     * - Redis 상태와 DB 예약을 따로 관리하므로 DB 반영 실패 시 비트를 되돌려야 함
+     * - 좌석별 구매자 정보는 DB에만 있음 (비트맵은 점유 여부만 표현)
+     */
+    public SeatClaimResponse claimSeat(Long ticketId, int seatNumber, String userId) {
+        SeatLayout layout = getLayout(ticketId);
+        if (!layout.contains(seatNumber)) {
+            throw new IllegalArgumentException("존재하지 않는 좌석입니다.");
+        }
+
+        // 1. 좌석 점유 (SETBIT)
+        if (!seatMapRepository.claim(ticketId, seatNumber)) {
+            log.warn("[Seat Map] 이미 선택된 좌석 - 티켓 ID: {}, 좌석: {}, 사용자: {}", ticketId, seatNumber, userId);
+            throw new IllegalStateException("이미 선택된 좌석입니다.");
+        }
+
+        // 2. DB 반영, 실패 시 점유 취소
+        persist(ticketId, seatNumber, 1, userId);
+        log.info("[Seat Map] 좌석 예약 완료 - 티켓 ID: {}, 좌석: {}, 사용자: {}", ticketId, seatNumber, userId);
+        return new SeatClaimResponse(ticketId, List.of(seatNumber));
+    }
+
+    /**
+     * LV.3-5': 좌석 비트맵 (연속 좌석 자동 배정)
+     *
+     * 장점:
+     * - 빈 구간 탐색과 점유를 Lua 스크립트 한 번으로 처리하므로 두 요청이 같은 구간을 받을 수 없음
+     * - 비트맵을 한 번에 읽어 스크립트 안에서 탐색 (좌석 수만큼 Redis 명령을 호출하지 않음)
+     *
+     * 단점:
+     * - 스크립트 실행 시간이 좌석 수에 비례 (실행 중에는 Redis가 다른 명령을 처리하지 못함)
+     * - 열을 넘어가는 연속 좌석은 배정하지 않음
+     */
+    public SeatClaimResponse claimBestBlock(Long ticketId, int count, String userId) {
+        SeatLayout layout = getLayout(ticketId);
+        if (count <= 0 || count > layout.seatsPerRow()) {
+            throw new IllegalArgumentException("좌석 수는 1석 이상, 열당 좌석 수 이하여야 합니다.");
+        }
+
+        // 1. 연속 좌석 탐색 + 점유 (Lua)
+        long firstSeatNumber = seatMapRepository.claimBlock(ticketId, count);
+        if (firstSeatNumber < 0) {
+            log.warn("[Seat Map] 연속 좌석 없음 - 티켓 ID: {}, 좌석 수: {}, 사용자: {}", ticketId, count, userId);
+            throw new IllegalStateException("연속된 빈 좌석이 없습니다.");
+        }
+
+        // 2. DB 반영, 실패 시 점유 취소
+        persist(ticketId, (int) firstSeatNumber, count, userId);
+        List<Integer> seatNumbers = IntStream.range((int) firstSeatNumber, (int) firstSeatNumber + count).boxed().toList();
+        log.info("[Seat Map] 연속 좌석 예약 완료 - 티켓 ID: {}, 좌석: {}, 사용자: {}", ticketId, seatNumbers, userId);
+        return new SeatClaimResponse(ticketId, seatNumbers);
+    }
+
+    private void persist(Long ticketId, int firstSeatNumber, int count, String userId) {
+        try {
+            seatReservationRepository.saveAll(IntStream.range(firstSeatNumber, firstSeatNumber + count)
+                    .mapToObj(seatNumber -> new SeatReservation(ticketId, seatNumber, userId))
+                    .toList());
+        } catch (RuntimeException e) {
+            seatMapRepository.release(ticketId, firstSeatNumber, count);
+            throw e;
+        }
+    }
+
+    private SeatLayout getLayout(Long ticketId) {
+        SeatLayout layout = seatMapRepository.findLayout(ticketId);
+        if (layout == null) {
+            throw new IllegalArgumentException("좌석 배치가 등록되지 않은 공연입니다.");
+        }
+        return layout;
+    }
+
+    private SeatMapResponse toResponse(Long ticketId, SeatLayout layout) {
+        return new SeatMapResponse(
+                ticketId,
+                layout.rows(),
+                layout.seatsPerRow(),
+                layout.totalSeats() - seatMapRepository.countClaimed(ticketId)
+        );
+    }
+}
@@ -1,14 +1,16 @@
 package com.ticket.lv3redisson.application;
 
-import com.ticket.lv3redisson.domain.Reservation;
-import com.ticket.lv3redisson.domain.Ticket;
 import com.ticket.lv3redisson.infrastructure.ReservationRepository;
 import com.ticket.lv3redisson.infrastructure.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -16,26 +18,84 @@ public class TicketReserveService {
 
     private final TicketRepository ticketRepository;
     private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
+    private final ReservationMetrics reservationMetrics;
 
+    /**
+     * 분산 락(동기/비동기)을 잡은 상태에서 호출하는 예매 트랜잭션
+     * 거절 사유는 이 트랜잭션에서만 구분되므로 여기서 기록
+     *
+     * @param strategy 거절 지표의 strategy 태그 (호출한 예매 방식)
+     */
     @Transactional
-    public void reserveTicket(Long ticketId, String userId) {
-        // 1. 티켓 조회
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
-
-        // 2. 중복 구매 확인
-        boolean alreadyReserved = reservationRepository.existsByTicketIdAndUserId(ticketId, userId);
-        if (alreadyReserved) {
+    public void reserveTicket(Long ticketId, String userId, String strategy) {
+        // 10ms 지연
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        // 1. 예약 정보 저장 + 중복 구매 확인 (INSERT ... ON CONFLICT DO NOTHING)
+        if (reservationRepository.insertIfAbsent(ticketId, userId, LocalDateTime.now()) == 0) {
             log.warn("[Redisson Lock] 중복 예매 시도 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            reservationMetrics.recordRejection(strategy, ticketId, "duplicate");
             throw new IllegalStateException("이미 예매한 티켓입니다.");
         }
 
-        // 3. 재고 확인
-        if (!ticket.hasStock()) {
+        // 2. 재고 확인 + 차감 (UPDATE ... WHERE stock > 0, 실패 시 위 INSERT도 롤백)
+        if (ticketRepository.decreaseStockIfAvailable(ticketId) == 0) {
+            if (!ticketRepository.existsById(ticketId)) {
+                reservationMetrics.recordRejection(strategy, ticketId, "not_found");
+                throw new IllegalArgumentException("티켓을 찾을 수 없습니다.");
+            }
             log.warn("[Redisson Lock] 재고 부족 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            reservationMetrics.recordRejection(strategy, ticketId, "sold_out");
+            soldOutTicketRegistry.markSoldOut(ticketId);
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+
+        log.info("[Redisson Lock] 예약 완료 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+    }
+
+    /**
+     * Redis에서 재고 선점이 끝난 예매를 DB에 반영 (락 없이 호출)
+     * 재고 정합성은 조건부 UPDATE로 한 번 더 보장
+     */
+    @Transactional
+    public void confirmReservation(Long ticketId, String userId) {
+        // 10ms 지연
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        // 1. 예약 정보 저장 (Redis 상태가 유실된 경우에도 DB 유니크 인덱스로 중복 차단)
+        if (reservationRepository.insertIfAbsent(ticketId, userId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("이미 예매한 티켓입니다.");
+        }
+
+        // 2. 재고 차감 (UPDATE ... WHERE stock > 0)
+        int updated = ticketRepository.decreaseStockIfAvailable(ticketId);
+        if (updated == 0) {
             throw new IllegalStateException("재고가 부족합니다.");
         }
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
 
+        log.info("[Redis Stock] 예약 완료 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+    }
+
+    /**
+     * 장바구니 예매 트랜잭션 (호출자가 모든 티켓의 락을 잡은 상태에서 호출)
+     * 티켓 하나라도 중복/재고 부족이면 예외로 전체 롤백 (All-or-Nothing)
+     *
+     * @param ticketIds 정렬된 티켓 ID 목록 (조건부 UPDATE의 행 락도 같은 순서로 잡힘)
+     */
+    @Transactional
+    public void reserveCart(List<Long> ticketIds, String userId) {
         // 10ms 지연
         try {
             Thread.sleep(10);
@@ -43,14 +103,26 @@ public class TicketReserveService {
             throw new RuntimeException(e);
         }
 
-        // 4. 재고 차감
-        ticket.decreaseStock();
-        ticketRepository.save(ticket);
+        LocalDateTime reservedAt = LocalDateTime.now();
+        for (Long ticketId : ticketIds) {
+            // 1. 예약 정보 저장 + 중복 구매 확인
+            if (reservationRepository.insertIfAbsent(ticketId, userId, reservedAt) == 0) {
+                log.warn("[Cart] 중복 예매 시도 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+                throw new IllegalStateException("이미 예매한 티켓입니다. 티켓 ID: " + ticketId);
+            }
 
-        // 5. 예약 정보 저장
-        Reservation reservation = new Reservation(ticketId, userId);
-        reservationRepository.save(reservation);
+            // 2. 재고 확인 + 차감 (실패 시 앞서 처리한 티켓까지 모두 롤백)
+            if (ticketRepository.decreaseStockIfAvailable(ticketId) == 0) {
+                if (!ticketRepository.existsById(ticketId)) {
+                    throw new IllegalArgumentException("티켓을 찾을 수 없습니다. 티켓 ID: " + ticketId);
+                }
+                log.warn("[Cart] 재고 부족 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+                soldOutTicketRegistry.markSoldOut(ticketId);
+                throw new IllegalStateException("재고가 부족합니다. 티켓 ID: " + ticketId);
+            }
+            eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+        }
 
-        log.info("[Redisson Lock] 예약 완료 - 티켓 ID: {}, 사용자: {}, 남은 재고: {}", ticketId, userId, ticket.getStock());
+        log.info("[Cart] 예약 완료 - 티켓 ID: {}, 사용자: {}", ticketIds, userId);
     }
 }
@@ -1,16 +1,27 @@
 package com.ticket.lv3redisson.application;
 
+import com.ticket.lv3redisson.application.dto.TicketResponse;
 import com.ticket.lv3redisson.domain.Ticket;
 import com.ticket.lv3redisson.infrastructure.ReservationRepository;
+import com.ticket.lv3redisson.infrastructure.ShardedTicketStockRepository;
+import com.ticket.lv3redisson.infrastructure.StockReservationResult;
 import com.ticket.lv3redisson.infrastructure.TicketRepository;
+import com.ticket.lv3redisson.infrastructure.TicketStockRedisRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -20,11 +31,19 @@ public class TicketService {
     private static final String LOCK_KEY_PREFIX = "TICKET_LOCK:";
     private static final long WAIT_TIME = 5L; // 락 획득 대기 시간 (초)
     private static final long LEASE_TIME = 10L; // 락 자동 해제 시간 (초)
+    // 비동기 락 소유자 구분용 (음수만 사용 - 동기 락/MultiLock은 양수인 스레드 ID를 소유자로 쓰므로 겹치면 재진입으로 처리됨)
+    private static final AtomicLong ASYNC_LOCK_OWNER_ID = new AtomicLong();
 
     private final RedissonClient redissonClient;
     private final TicketRepository ticketRepository;
     private final ReservationRepository reservationRepository;
     private final TicketReserveService ticketReserveService;
+    private final TicketStockRedisRepository ticketStockRedisRepository;
+    private final ShardedTicketStockRepository shardedTicketStockRepository;
+    private final TicketViewCache ticketViewCache;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
+    private final ThreadPoolTaskExecutor reservationDbExecutor;
+    private final ReservationMetrics reservationMetrics;
 
     /**
      * LV.3: Redisson 분산 락
@@ -43,20 +62,32 @@ public class TicketService {
     public void reserveTicketWithRedissonLock(Long ticketId, String userId) {
         String lockKey = LOCK_KEY_PREFIX + ticketId;
         RLock lock = redissonClient.getLock(lockKey);
+        Timer.Sample holdSample = null;
 
         try {
             // 1. 락 획득 시도 (waitTime 동안 대기, leaseTime 후 자동 해제)
+            Timer.Sample waitSample = reservationMetrics.start();
             boolean acquired = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+            reservationMetrics.recordLockWait(ReservationMetrics.REDISSON_LOCK, ticketId, waitSample, acquired);
 
             if (!acquired) {
                 log.error("[Redisson Lock] 락 획득 실패 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+                reservationMetrics.recordRejection(ReservationMetrics.REDISSON_LOCK, ticketId, "lock_timeout");
                 throw new IllegalStateException("예매 처리 중입니다. 잠시 후 다시 시도해주세요.");
             }
 
+            holdSample = reservationMetrics.start();
             log.info("[Redisson Lock] 락 획득 성공 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
 
-            // 2. 락을 획득한 후, 트랜잭션 내에서 비즈니스 로직 수행
-            ticketReserveService.reserveTicket(ticketId, userId);
+            // 2. 락을 획득한 후, 트랜잭션 내에서 비즈니스 로직 수행 (시작~커밋/롤백 시간 기록)
+            Timer.Sample transactionSample = reservationMetrics.start();
+            try {
+                ticketReserveService.reserveTicket(ticketId, userId, ReservationMetrics.REDISSON_LOCK);
+                reservationMetrics.recordTransaction(ReservationMetrics.REDISSON_LOCK, ticketId, transactionSample, true);
+            } catch (RuntimeException e) {
+                reservationMetrics.recordTransaction(ReservationMetrics.REDISSON_LOCK, ticketId, transactionSample, false);
+                throw e;
+            }
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -65,18 +96,220 @@ public class TicketService {
         } finally {
             // 3. finally에서 락 해제 보장
             if (lock.isHeldByCurrentThread()) {
+                reservationMetrics.recordLockHold(ReservationMetrics.REDISSON_LOCK, ticketId, holdSample);
                 lock.unlock();
                 log.info("[Redisson Lock] 락 해제 - 티켓 ID: {}", ticketId);
             }
         }
     }
 
+    /**
+     * LV.3-1': Redisson 비동기 분산 락
+     *
+     * 장점:
+     * - 락을 기다리는 동안 요청 스레드를 점유하지 않음 (대기 중인 요청은 콜백 객체만 남음)
+     * - DB 단계는 커넥션 풀 크기만큼의 전용 스레드에서만 실행되어 커넥션 대기가 쌓이지 않음
+     * - 동기 방식과 같은 락 키를 사용하므로 함께 사용해도 상호 배제가 유지됨
+     *
+     * 단점:
+     * - 락 소유자를 스레드가 아닌 요청별 ID로 구분해야 함 (획득/해제 스레드가 다름)
+     * - 콜백 체인으로 흐름을 작성해야 하므로 코드와 예외 처리가 복잡함
+     */
+    public CompletableFuture<Void> reserveTicketWithRedissonLockAsync(Long ticketId, String userId) {
+        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + ticketId);
+        long ownerId = ASYNC_LOCK_OWNER_ID.decrementAndGet();
+
+        // 1. 락 획득 시도 (대기 중에는 스레드를 점유하지 않음)
+        return lock.tryLockAsync(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS, ownerId).toCompletableFuture()
+                .thenCompose(acquired -> {
+                    if (!acquired) {
+                        log.error("[Redisson Async Lock] 락 획득 실패 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+                        return CompletableFuture.failedFuture(new IllegalStateException("예매 처리 중입니다. 잠시 후 다시 시도해주세요."));
+                    }
+
+                    // 2. DB 단계는 커넥션 풀 크기의 전용 실행기에서 수행
+                    // 3. 성공/실패와 관계없이 락 해제 후 결과 전달
+                    return runReservation(ticketId, userId)
+                            .handle((result, error) -> error)
+                            .thenCompose(error -> lock.unlockAsync(ownerId).toCompletableFuture()
+                                    .<Void>handle((unlocked, unlockError) -> {
+                                        if (unlockError != null) {
+                                            log.warn("[Redisson Async Lock] 락 해제 실패 - 티켓 ID: {}, 에러: {}", ticketId, unlockError.getMessage());
+                                        }
+                                        if (error != null) {
+                                            throw error instanceof CompletionException completionException
+                                                    ? completionException
+                                                    : new CompletionException(error);
+                                        }
+                                        return null;
+                                    }));
+                });
+    }
+
+    private CompletableFuture<Void> runReservation(Long ticketId, String userId) {
+        try {
+            return CompletableFuture.runAsync(() -> ticketReserveService.reserveTicket(ticketId, userId, ReservationMetrics.REDISSON_ASYNC_LOCK),
+                    reservationDbExecutor);
+        } catch (TaskRejectedException e) {
+            log.warn("[Redisson Async Lock] DB 처리 대기열 초과 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            return CompletableFuture.failedFuture(new IllegalStateException("예매 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    /**
+     * LV.3-2: Redis Lua 스크립트
+     *
+     * 장점:
+     * - 중복 구매 확인 + 재고 차감 + 구매자 등록을 Redis 왕복 한 번으로 원자적으로 처리
+     * - 분산 락을 잡지 않으므로 같은 티켓에 대한 요청도 락 대기 없이 처리
+     * - DB 반영은 락 밖에서 수행 (재고는 조건부 UPDATE로 한 번 더 보장)
+     *
+     * 단점:
+     * - Redis 재고와 DB 재고를 따로 관리하므로 DB 반영 실패 시 보상 처리 필요
+     * - 스크립트 실행 중에는 Redis가 다른 명령을 처리하지 못하므로 스크립트는 짧게 유지해야 함
+     */
+    public void reserveTicketWithLuaScript(Long ticketId, String userId) {
+        // 1. Redis에서 재고 선점 (최초 요청 시 DB 재고로 초기화)
+        StockReservationResult result = ticketStockRedisRepository.reserve(ticketId, userId);
+        if (result == StockReservationResult.NOT_INITIALIZED) {
+            ticketStockRedisRepository.initializeIfAbsent(ticketId, getTicket(ticketId).getStock());
+            result = ticketStockRedisRepository.reserve(ticketId, userId);
+        }
+
+        if (result == StockReservationResult.DUPLICATE) {
+            log.warn("[Lua Script] 중복 예매 시도 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            throw new IllegalStateException("이미 예매한 티켓입니다.");
+        }
+        if (result == StockReservationResult.SOLD_OUT) {
+            log.warn("[Lua Script] 재고 부족 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            soldOutTicketRegistry.markSoldOut(ticketId);
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+
+        // 2. 락 없이 DB 반영, 실패 시 Redis 선점 취소
+        try {
+            ticketReserveService.confirmReservation(ticketId, userId);
+        } catch (RuntimeException e) {
+            ticketStockRedisRepository.cancel(ticketId, userId);
+            soldOutTicketRegistry.markAvailable(ticketId);
+            throw e;
+        }
+    }
+
+    /**
+     * LV.3-3: Redis 샤딩 재고 카운터
+     *
+     * 장점:
+     * - 하나의 티켓 재고를 여러 키(샤드)로 나누어 인기 티켓의 Hot Key 문제 완화
+     * - Redis Cluster에서는 샤드가 여러 노드에 분산되어 노드 하나의 처리량에 묶이지 않음
+     * - 각 샤드는 0보다 클 때만 차감되므로 전체 판매량은 정확히 유지
+     *
+     * 단점:
+     * - 재고가 거의 소진되면 빈 샤드를 여러 번 거쳐야 하므로 Redis 왕복이 늘어남
+     * - 남은 재고 조회 시 모든 샤드를 합산해야 함
+     */
+    public void reserveTicketWithShardedStock(Long ticketId, String userId) {
+        // 1. 샤드에서 재고 선점 (샤드 키가 없으면 DB 재고를 샤드로 분배한 뒤 다시 시도)
+        StockReservationResult result = shardedTicketStockRepository.reserve(ticketId, userId);
+        if (result == StockReservationResult.NOT_INITIALIZED) {
+            shardedTicketStockRepository.initializeIfAbsent(ticketId, getTicket(ticketId).getStock());
+            result = shardedTicketStockRepository.reserve(ticketId, userId);
+        }
+
+        if (result == StockReservationResult.DUPLICATE) {
+            log.warn("[Sharded Stock] 중복 예매 시도 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            throw new IllegalStateException("이미 예매한 티켓입니다.");
+        }
+        if (result == StockReservationResult.SOLD_OUT) {
+            log.warn("[Sharded Stock] 재고 부족 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            soldOutTicketRegistry.markSoldOut(ticketId);
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+
+        // 2. 락 없이 DB 반영, 실패 시 샤드 선점 취소
+        try {
+            ticketReserveService.confirmReservation(ticketId, userId);
+        } catch (RuntimeException e) {
+            shardedTicketStockRepository.cancel(ticketId, userId);
+            soldOutTicketRegistry.markAvailable(ticketId);
+            throw e;
+        }
+    }
+
+    /**
+     * LV.3-6: 장바구니 예매 (Redisson MultiLock + 단일 트랜잭션)
+     *
+     * 여러 티켓을 따로 예매하면 일부만 성공할 수 있고, 요청마다 락 순서가 다르면
+     * (A→B, B→A) 서로의 락을 기다리며 대기 시간을 모두 소진할 수 있음
+     *
+     * 장점:
+     * - 티켓 ID를 정렬한 순서로 락을 잡으므로 요청 간 락 순서가 항상 같아 교착 상태가 생기지 않음
+     * - 모든 락을 잡은 뒤 한 트랜잭션에서 처리하여 전부 성공하거나 전부 실패 (All-or-Nothing)
+     * - 단건 예매와 같은 락 키를 사용하므로 함께 사용해도 상호 배제가 유지됨
+     *
+     * 단점:
+     * - 장바구니의 티켓 중 하나라도 경합이 심하면 나머지 티켓의 락도 그동안 함께 점유됨
+     * - 티켓 수만큼 Redis 락 획득/해제가 필요함
+     */
+    public void reserveCartWithMultiLock(List<Long> ticketIds, String userId) {
+        List<Long> sortedIds = ticketIds.stream().distinct().sorted().toList();
+        if (sortedIds.isEmpty()) {
+            throw new IllegalArgumentException("예매할 티켓이 없습니다.");
+        }
+
+        // MultiLock은 주어진 순서대로 락을 잡고, 하나라도 실패하면 잡은 락을 모두 풀고 다시 시도
+        RLock multiLock = redissonClient.getMultiLock(sortedIds.stream()
+                .map(ticketId -> redissonClient.getLock(LOCK_KEY_PREFIX + ticketId))
+                .toArray(RLock[]::new));
+
+        boolean acquired = false;
+        try {
+            // 1. 모든 티켓의 락 획득 (티켓 ID 오름차순)
+            acquired = multiLock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+            if (!acquired) {
+                log.error("[MultiLock] 락 획득 실패 - 티켓 ID: {}, 사용자: {}", sortedIds, userId);
+                throw new IllegalStateException("예매 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            // 2. 한 트랜잭션에서 모든 티켓 예매
+            ticketReserveService.reserveCart(sortedIds, userId);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[MultiLock] 락 획득 중 인터럽트 발생 - 티켓 ID: {}", sortedIds, e);
+            throw new RuntimeException("예매 처리 중 오류가 발생했습니다.", e);
+        } finally {
+            // 3. MultiLock은 isHeldByCurrentThread를 지원하지 않으므로 획득 여부로 해제
+            if (acquired) {
+                multiLock.unlock();
+            }
+        }
+    }
+
     @Transactional(readOnly = true)
     public Ticket getTicket(Long ticketId) {
         return ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
     }
 
+    /**
+     * 티켓 조회 화면용 정보 (재고 + 예약 건수)
+     *
+     * - 예약 건수는 티켓 행에 함께 관리되는 reservedCount를 사용 (예약 테이블 COUNT 없음)
+     * - 조회 결과는 TicketViewCache에 짧게 보관되고, 예약이 커밋되면 무효화됨
+     */
+    public TicketResponse getTicketView(Long ticketId) {
+        return ticketViewCache.get(ticketId, id -> {
+            Ticket ticket = getTicket(id);
+            return new TicketResponse(
+                    ticket.getId(),
+                    ticket.getName(),
+                    ticket.getStock(),
+                    ticket.getReservedCount().longValue()
+            );
+        });
+    }
+
     @Transactional(readOnly = true)
     public long getReservationCount(Long ticketId) {
         return reservationRepository.countByTicketId(ticketId);
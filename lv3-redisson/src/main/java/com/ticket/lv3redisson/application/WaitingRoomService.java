@@ -0,0 +1,117 @@
+package com.ticket.lv3redisson.application;
+
+import com.ticket.lv3redisson.application.dto.WaitingRoomStatus;
+import com.ticket.lv3redisson.application.dto.WaitingRoomStatusResponse;
+import com.ticket.lv3redisson.infrastructure.WaitingRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * LV.3-4: 가상 대기실 (Virtual Waiting Room)
+ *
+ * 장점:
+ * - 예매 요청이 한꺼번에 락 경쟁에 들어가지 않고, 백엔드가 처리할 수 있는 속도로만 입장
+ * - 대기 순번 조회는 Redis ZRANK 한 번이라 폴링 비용이 작음
+ * - 입장 처리는 간격마다 한 인스턴스만 수행하므로 인스턴스 수와 관계없이 입장 속도가 일정
+ *
+ * 단점:
+ * - 사용자는 대기열 등록 -> 상태 폴링 -> 예매 순서로 요청해야 함
+ * - 입장 속도를 백엔드 처리량에 맞춰 설정해야 함 (너무 낮으면 대기 시간 증가, 높으면 락 경쟁 재발)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "ticket.waiting-room.enabled", havingValue = "true")
+public class WaitingRoomService {
+
+    private final WaitingRoomRepository waitingRoomRepository;
+    private final int admissionsPerSecond;
+    private final long admissionIntervalMillis;
+    private final long tokenTtlMillis;
+
+    public WaitingRoomService(WaitingRoomRepository waitingRoomRepository,
+                              @Value("${ticket.waiting-room.admissions-per-second:50}") int admissionsPerSecond,
+                              @Value("${ticket.waiting-room.admission-interval-ms:200}") long admissionIntervalMillis,
+                              @Value("${ticket.waiting-room.token-ttl-seconds:30}") long tokenTtlSeconds) {
+        this.waitingRoomRepository = waitingRoomRepository;
+        this.admissionsPerSecond = admissionsPerSecond;
+        this.admissionIntervalMillis = admissionIntervalMillis;
+        this.tokenTtlMillis = tokenTtlSeconds * 1000;
+    }
+
+    /**
+     * 대기열 등록 (이미 등록되어 있으면 기존 순번 유지)
+     */
+    public WaitingRoomStatusResponse enter(Long ticketId, String userId) {
+        if (!waitingRoomRepository.hasToken(ticketId, userId)) {
+            waitingRoomRepository.enter(ticketId, userId, System.currentTimeMillis());
+        }
+        return getStatus(ticketId, userId);
+    }
+
+    public WaitingRoomStatusResponse getStatus(Long ticketId, String userId) {
+        if (waitingRoomRepository.hasToken(ticketId, userId)) {
+            return new WaitingRoomStatusResponse(ticketId, userId, WaitingRoomStatus.ADMITTED, null, null);
+        }
+
+        Integer rank = waitingRoomRepository.getRank(ticketId, userId);
+        if (rank == null) {
+            return new WaitingRoomStatusResponse(ticketId, userId, WaitingRoomStatus.NOT_IN_QUEUE, null, null);
+        }
+
+        long position = rank + 1L;
+        long estimatedWaitSeconds = (position + admissionsPerSecond - 1) / admissionsPerSecond;
+        return new WaitingRoomStatusResponse(ticketId, userId, WaitingRoomStatus.WAITING, position, estimatedWaitSeconds);
+    }
+
+    /**
+     * 입장 토큰 사용 (토큰은 예매 요청 1회에만 유효)
+     */
+    public boolean consumeToken(Long ticketId, String userId) {
+        return waitingRoomRepository.consumeToken(ticketId, userId);
+    }
+
+    /**
+     * 여러 티켓의 입장 토큰을 함께 사용 (장바구니 예매)
+     *
+     * - 하나라도 토큰이 없으면 아무 토큰도 사용하지 않고 false
+     * - 확인 후 사용 사이에 토큰이 만료되면 false (이미 사용한 토큰은 되돌리지 않음)
+     */
+    public boolean consumeTokens(Collection<Long> ticketIds, String userId) {
+        Set<Long> distinctTicketIds = new LinkedHashSet<>(ticketIds);
+        if (!distinctTicketIds.stream().allMatch(ticketId -> waitingRoomRepository.hasToken(ticketId, userId))) {
+            return false;
+        }
+
+        boolean consumedAll = true;
+        for (Long ticketId : distinctTicketIds) {
+            consumedAll &= waitingRoomRepository.consumeToken(ticketId, userId);
+        }
+        return consumedAll;
+    }
+
+    /**
+     * 간격마다 티켓별로 (초당 입장 인원 x 간격) 만큼 입장 토큰 발급, 대기열이 빈 티켓은 대상에서 제외
+     */
+    @Scheduled(fixedRateString = "${ticket.waiting-room.admission-interval-ms:200}")
+    public void admit() {
+        int admissionsPerTick = Math.max(1, (int) (admissionsPerSecond * admissionIntervalMillis / 1000));
+        for (Long ticketId : waitingRoomRepository.getActiveTicketIds()) {
+            try {
+                long admitted = waitingRoomRepository.admit(ticketId, admissionsPerTick, tokenTtlMillis, admissionIntervalMillis);
+                if (admitted > 0) {
+                    log.info("[Waiting Room] 입장 - 티켓 ID: {}, 인원: {}명", ticketId, admitted);
+                }
+                waitingRoomRepository.deactivateIfDrained(ticketId);
+            } catch (Exception e) {
+                log.error("[Waiting Room] 입장 처리 실패 - 티켓 ID: {}, 에러: {}", ticketId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.ticket.lv3redisson.application.dto;
+
+import java.util.List;
+
+public record SeatClaimResponse(
+        Long ticketId,
+        List<Integer> seatNumbers
+) {}
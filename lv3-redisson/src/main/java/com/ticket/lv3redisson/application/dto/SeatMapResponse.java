@@ -0,0 +1,8 @@
+package com.ticket.lv3redisson.application.dto;
+
+public record SeatMapResponse(
+        Long ticketId,
+        Integer rows,
+        Integer seatsPerRow,
+        Long availableSeats
+) {}
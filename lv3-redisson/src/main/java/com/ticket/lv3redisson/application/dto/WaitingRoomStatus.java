@@ -0,0 +1,10 @@
+package com.ticket.lv3redisson.application.dto;
+
+/**
+ * 대기열 상태
+ */
+public enum WaitingRoomStatus {
+    WAITING,      // 대기 중
+    ADMITTED,     // 입장 토큰 발급됨 (예매 가능)
+    NOT_IN_QUEUE  // 대기열에 없음 (토큰 만료/사용 후 다시 입장 필요)
+}
@@ -0,0 +1,9 @@
+package com.ticket.lv3redisson.application.dto;
+
+public record WaitingRoomStatusResponse(
+        Long ticketId,
+        String userId,
+        WaitingRoomStatus status,
+        Long position,              // 내 앞에 있는 인원 + 1 (대기 중일 때만)
+        Long estimatedWaitSeconds   // 입장 속도 기준 예상 대기 시간 (대기 중일 때만)
+) {}
@@ -0,0 +1,29 @@
+package com.ticket.lv3redisson.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 예매의 DB 단계 전용 실행기
+ *
+ * - 스레드 수 = Hikari 커넥션 풀 크기 (커넥션보다 스레드가 많으면 커넥션 대기만 늘어남)
+ * - 대기열 크기를 제한하여 처리할 수 없는 요청은 즉시 거절
+ */
+@Configuration
+public class AsyncReservationConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor reservationDbExecutor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${ticket.async.db-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("reservation-db-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
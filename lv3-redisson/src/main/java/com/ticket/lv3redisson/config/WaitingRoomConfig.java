@@ -0,0 +1,27 @@
+package com.ticket.lv3redisson.config;
+
+import com.ticket.lv3redisson.application.WaitingRoomService;
+import com.ticket.lv3redisson.presentation.WaitingRoomInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 대기실 사용 시 예매 엔드포인트 앞에 입장 토큰 검사 적용
+ * (장바구니 예매도 포함 - 담긴 티켓마다 입장 토큰이 있어야 통과)
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.waiting-room.enabled", havingValue = "true")
+public class WaitingRoomConfig implements WebMvcConfigurer {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new WaitingRoomInterceptor(waitingRoomService))
+                .addPathPatterns("/api/tickets/*/reserve", "/api/tickets/*/reserve/**");
+    }
+}
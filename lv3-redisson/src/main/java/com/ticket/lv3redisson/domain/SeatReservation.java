@@ -0,0 +1,42 @@
+package com.ticket.lv3redisson.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "seat_reservations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_seat_reservations_ticket_seat", columnNames = {"ticket_id", "seat_number"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeatReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_reservation_seq_generator")
+    @SequenceGenerator(name = "seat_reservation_seq_generator", sequenceName = "seat_reservations_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long ticketId;
+
+    @Column(nullable = false)
+    private Integer seatNumber;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private LocalDateTime reservedAt;
+
+    public SeatReservation(Long ticketId, Integer seatNumber, String userId) {
+        this.ticketId = ticketId;
+        this.seatNumber = seatNumber;
+        this.userId = userId;
+        this.reservedAt = LocalDateTime.now();
+    }
+}
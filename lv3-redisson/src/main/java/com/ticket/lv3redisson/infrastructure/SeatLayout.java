@@ -0,0 +1,15 @@
+package com.ticket.lv3redisson.infrastructure;
+
+/**
+ * 공연 좌석 배치 (좌석 번호 = 열 번호 * 열당 좌석 수 + 열 안의 위치, 0부터 시작)
+ */
+public record SeatLayout(int rows, int seatsPerRow) {
+
+    public int totalSeats() {
+        return rows * seatsPerRow;
+    }
+
+    public boolean contains(int seatNumber) {
+        return seatNumber >= 0 && seatNumber < totalSeats();
+    }
+}
@@ -0,0 +1,176 @@
+package com.ticket.lv3redisson.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBitSet;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연별 좌석 점유 상태를 Redis 비트맵으로 관리
+ *
+ * - SEAT_MAP:{ticketId}    : 좌석 번호 i번 비트가 1이면 점유됨 (좌석 5,000개 = 625바이트)
+ * - SEAT_LAYOUT:{ticketId} : "열 수,열당 좌석 수"
+ * - 특정 좌석 선택은 SETBIT 한 번 (이전 비트가 0이었던 요청만 성공)
+ * - 연속 좌석 선택은 Lua 스크립트 한 번으로 탐색 + 점유를 원자적으로 수행
+ * - 두 키는 같은 해시 태그({ticketId})를 사용하므로 Redis Cluster에서도 같은 슬롯에 위치
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatMapRepository {
+
+    private static final String SEAT_MAP_KEY_PREFIX = "SEAT_MAP:";
+    private static final String SEAT_LAYOUT_KEY_PREFIX = "SEAT_LAYOUT:";
+
+    /**
+     * 앞 열부터 k개의 빈 좌석이 연속된 구간을 찾아 점유 (같은 열에서는 가운데에 가까운 구간 우선)
+     * ARGV[1]: 좌석 수(k)
+     * 반환값: 점유한 첫 좌석 번호(>= 0), -1 연속된 빈 좌석 없음, -2 좌석 배치 미설정
+     *
+     * 비트맵은 GET 한 번으로 읽어 스크립트 안에서 확인 (좌석마다 GETBIT를 호출하지 않음)
+     */
+    private static final String CLAIM_BLOCK_SCRIPT = """
+            local layout = redis.call('GET', KEYS[2])
+            if not layout then
+                return -2
+            end
+            local rows, cols = string.match(layout, '(%d+),(%d+)')
+            rows = tonumber(rows)
+            cols = tonumber(cols)
+            local k = tonumber(ARGV[1])
+            if k > cols then
+                return -1
+            end
+
+            local map = redis.call('GET', KEYS[1]) or ''
+            local function taken(i)
+                local b = string.byte(map, math.floor(i / 8) + 1)
+                if not b then
+                    return false
+                end
+                return bit.band(b, bit.rshift(128, i % 8)) ~= 0
+            end
+
+            local center = (cols - k) / 2
+            for r = 0, rows - 1 do
+                local best = -1
+                local bestDistance = cols
+                local run = 0
+                for c = 0, cols - 1 do
+                    if taken(r * cols + c) then
+                        run = 0
+                    else
+                        run = run + 1
+                    end
+                    if run >= k then
+                        local start = c - k + 1
+                        local distance = math.abs(start - center)
+                        if distance < bestDistance then
+                            best = start
+                            bestDistance = distance
+                        end
+                    end
+                end
+                if best >= 0 then
+                    for c = best, best + k - 1 do
+                        redis.call('SETBIT', KEYS[1], r * cols + c, 1)
+                    end
+                    return r * cols + best
+                end
+            end
+            return -1
+            """;
+
+    private final RedissonClient redissonClient;
+
+    // 좌석 배치는 한 번 정해지면 바뀌지 않으므로 로컬에 보관
+    private final Map<Long, SeatLayout> layouts = new ConcurrentHashMap<>();
+
+    /**
+     * 좌석 배치 등록 (이미 등록되어 있으면 기존 배치 유지)
+     *
+     * @return 실제로 사용되는 좌석 배치
+     */
+    public SeatLayout initializeLayoutIfAbsent(Long ticketId, SeatLayout layout) {
+        RBucket<String> bucket = redissonClient.getBucket(layoutKey(ticketId), StringCodec.INSTANCE);
+        bucket.setIfAbsent(layout.rows() + "," + layout.seatsPerRow());
+        layouts.remove(ticketId);
+        return findLayout(ticketId);
+    }
+
+    /**
+     * @return 좌석 배치, 등록되지 않았으면 null
+     */
+    public SeatLayout findLayout(Long ticketId) {
+        SeatLayout cached = layouts.get(ticketId);
+        if (cached != null) {
+            return cached;
+        }
+
+        String value = redissonClient.<String>getBucket(layoutKey(ticketId), StringCodec.INSTANCE).get();
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split(",");
+        SeatLayout layout = new SeatLayout(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        layouts.put(ticketId, layout);
+        return layout;
+    }
+
+    /**
+     * 특정 좌석 점유 (SETBIT)
+     *
+     * @return 점유 성공 여부 (이미 점유된 좌석이면 false)
+     */
+    public boolean claim(Long ticketId, int seatNumber) {
+        return !seatMap(ticketId).set(seatNumber);
+    }
+
+    /**
+     * 연속 좌석 점유
+     *
+     * @return 점유한 첫 좌석 번호, -1 연속된 빈 좌석 없음, -2 좌석 배치 미설정
+     */
+    public long claimBlock(Long ticketId, int count) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CLAIM_BLOCK_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(seatMapKey(ticketId), layoutKey(ticketId)),
+                String.valueOf(count));
+    }
+
+    /**
+     * 점유 취소 (DB 반영 실패 시 보상)
+     */
+    public void release(Long ticketId, int fromSeatNumber, int count) {
+        seatMap(ticketId).clear(fromSeatNumber, fromSeatNumber + count);
+    }
+
+    public long countClaimed(Long ticketId) {
+        return seatMap(ticketId).cardinality();
+    }
+
+    public void delete(Long ticketId) {
+        redissonClient.getKeys().delete(seatMapKey(ticketId), layoutKey(ticketId));
+        layouts.remove(ticketId);
+    }
+
+    private RBitSet seatMap(Long ticketId) {
+        return redissonClient.getBitSet(seatMapKey(ticketId));
+    }
+
+    private String seatMapKey(Long ticketId) {
+        return SEAT_MAP_KEY_PREFIX + "{" + ticketId + "}";
+    }
+
+    private String layoutKey(Long ticketId) {
+        return SEAT_LAYOUT_KEY_PREFIX + "{" + ticketId + "}";
+    }
+}
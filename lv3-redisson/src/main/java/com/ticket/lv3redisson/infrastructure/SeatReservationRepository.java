@@ -0,0 +1,8 @@
+package com.ticket.lv3redisson.infrastructure;
+
+import com.ticket.lv3redisson.domain.SeatReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SeatReservationRepository extends JpaRepository<SeatReservation, Long> {
+    long countByTicketId(Long ticketId);
+}
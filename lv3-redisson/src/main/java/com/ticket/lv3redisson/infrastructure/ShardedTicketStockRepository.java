@@ -0,0 +1,154 @@
+package com.ticket.lv3redisson.infrastructure;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 티켓 재고를 N개의 Redis 카운터(샤드)로 나누어 관리
+ *
+ * - TICKET_STOCK_SHARD:{ticketId:i}  : i번째 샤드의 남은 재고
+ * - TICKET_BUYER_SHARD:{ticketId:j}  : 구매자 ID (userId 해시로 샤드 선택)
+ * - 샤드마다 해시 태그가 달라 Redis Cluster의 여러 슬롯(노드)으로 부하가 분산됨
+ * - 요청은 임의의 샤드부터 차감을 시도하고, 비어 있으면 다음 샤드로 넘어감
+ * - 각 샤드는 0보다 클 때만 차감하므로 전체 판매량은 초기 재고를 넘지 않음
+ * - 초기화 여부는 JVM이 아니라 Redis의 샤드 키 존재 여부로 판단
+ *   (Redis 재시작/키 유실 시 NOT_INITIALIZED를 반환하므로 호출 측이 DB 재고로 다시 채움)
+ */
+@Repository
+public class ShardedTicketStockRepository {
+
+    private static final String STOCK_SHARD_KEY_PREFIX = "TICKET_STOCK_SHARD:";
+    private static final String BUYER_SHARD_KEY_PREFIX = "TICKET_BUYER_SHARD:";
+
+    /**
+     * 샤드 재고가 남아 있을 때만 차감
+     * 반환값: 남은 샤드 재고(>= 0), -1 샤드 재고 없음, -2 샤드 미초기화
+     */
+    private static final String ACQUIRE_SCRIPT = """
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then
+                return -2
+            end
+            if tonumber(stock) <= 0 then
+                return -1
+            end
+            return redis.call('DECR', KEYS[1])
+            """;
+
+    /**
+     * 샤드 키가 있을 때만 재고 반환 (유실된 샤드를 1로 만들면 SETNX 재초기화가 막히므로)
+     */
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('INCR', KEYS[1])
+            end
+            return 0
+            """;
+
+    private static final long SHARD_NOT_INITIALIZED = -2;
+
+    private final RedissonClient redissonClient;
+    private final int shardCount;
+
+    public ShardedTicketStockRepository(RedissonClient redissonClient,
+                                        @Value("${ticket.stock.shard-count:8}") int shardCount) {
+        this.redissonClient = redissonClient;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 재고를 샤드 수만큼 나누어 초기화 (이미 있는 샤드는 건드리지 않음)
+     * 모든 인스턴스가 같은 값으로 SETNX 하므로 동시에 호출해도 결과가 같음
+     * (일부 샤드만 유실된 경우 그 샤드만 다시 채워지고, 초과 판매는 DB 조건부 UPDATE가 막음)
+     */
+    public void initializeIfAbsent(Long ticketId, int stock) {
+        int base = stock / shardCount;
+        int remainder = stock % shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            int shardStock = base + (shard < remainder ? 1 : 0);
+            redissonClient.getBucket(stockShardKey(ticketId, shard), StringCodec.INSTANCE)
+                    .setIfAbsent(String.valueOf(shardStock));
+        }
+    }
+
+    public StockReservationResult reserve(Long ticketId, String userId) {
+        // 1. 구매자 등록 (이미 등록되어 있으면 중복 구매)
+        if (!redissonClient.getSet(buyerShardKey(ticketId, userId), StringCodec.INSTANCE).add(userId)) {
+            return StockReservationResult.DUPLICATE;
+        }
+
+        // 2. 임의의 샤드부터 순서대로 차감 시도
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        boolean missingShard = false;
+        for (int i = 0; i < shardCount; i++) {
+            long result = acquire(ticketId, (start + i) % shardCount);
+            if (result >= 0) {
+                return StockReservationResult.RESERVED;
+            }
+            missingShard |= result == SHARD_NOT_INITIALIZED;
+        }
+
+        // 3. 차감하지 못하면 구매자 등록 취소 (샤드 키가 없었으면 매진이 아니라 미초기화)
+        redissonClient.getSet(buyerShardKey(ticketId, userId), StringCodec.INSTANCE).remove(userId);
+        return missingShard ? StockReservationResult.NOT_INITIALIZED : StockReservationResult.SOLD_OUT;
+    }
+
+    /**
+     * 선점 취소 (DB 반영 실패 시 보상)
+     * 어느 샤드에 돌려주어도 전체 재고 합계는 같으므로 임의의 샤드에 반환
+     */
+    public void cancel(Long ticketId, String userId) {
+        if (redissonClient.getSet(buyerShardKey(ticketId, userId), StringCodec.INSTANCE).remove(userId)) {
+            int shard = ThreadLocalRandom.current().nextInt(shardCount);
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    RELEASE_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.<Object>of(stockShardKey(ticketId, shard)));
+        }
+    }
+
+    /**
+     * 모든 샤드의 남은 재고 합계
+     */
+    public long getRemainingStock(Long ticketId) {
+        long total = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            total += redissonClient.getAtomicLong(stockShardKey(ticketId, shard)).get();
+        }
+        return total;
+    }
+
+    public void delete(Long ticketId) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            redissonClient.getKeys().delete(stockShardKey(ticketId, shard), buyerShardKey(ticketId, shard));
+        }
+    }
+
+    private long acquire(Long ticketId, int shard) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ACQUIRE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(stockShardKey(ticketId, shard)));
+        return result;
+    }
+
+    private String stockShardKey(Long ticketId, int shard) {
+        return STOCK_SHARD_KEY_PREFIX + "{" + ticketId + ":" + shard + "}";
+    }
+
+    private String buyerShardKey(Long ticketId, String userId) {
+        return buyerShardKey(ticketId, Math.floorMod(userId.hashCode(), shardCount));
+    }
+
+    private String buyerShardKey(Long ticketId, int shard) {
+        return BUYER_SHARD_KEY_PREFIX + "{" + ticketId + ":" + shard + "}";
+    }
+}
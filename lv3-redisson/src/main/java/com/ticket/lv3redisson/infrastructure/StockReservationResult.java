@@ -0,0 +1,24 @@
+package com.ticket.lv3redisson.infrastructure;
+
+/**
+ * Redis 재고 선점 스크립트 실행 결과
+ */
+public enum StockReservationResult {
+    RESERVED,
+    DUPLICATE,
+    SOLD_OUT,
+    NOT_INITIALIZED;
+
+    static StockReservationResult from(long code) {
+        if (code >= 0) {
+            return RESERVED;
+        }
+        if (code == -1) {
+            return DUPLICATE;
+        }
+        if (code == -2) {
+            return SOLD_OUT;
+        }
+        return NOT_INITIALIZED;
+    }
+}
@@ -2,6 +2,32 @@ package com.ticket.lv3redisson.infrastructure;
 
 import com.ticket.lv3redisson.domain.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
+
+    /**
+     * 조건부 UPDATE
+     * UPDATE tickets SET stock = stock - 1 WHERE id = ? AND stock > 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.stock = t.stock - 1, t.reservedCount = t.reservedCount + 1 WHERE t.id = :id AND t.stock > 0")
+    int decreaseStockIfAvailable(@Param("id") Long id);
+
+    /**
+     * 현재 DB 재고 (영속성 컨텍스트의 엔티티가 아닌 DB 값을 읽음)
+     */
+    @Query("SELECT t.stock FROM Ticket t WHERE t.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
+
+    /**
+     * 재고가 모두 소진된 티켓 ID
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE t.stock <= 0")
+    List<Long> findSoldOutTicketIds();
 }
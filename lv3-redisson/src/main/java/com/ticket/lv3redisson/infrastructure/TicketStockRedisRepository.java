@@ -0,0 +1,94 @@
+package com.ticket.lv3redisson.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Redis에 티켓 재고와 구매자 목록을 보관하고 Lua 스크립트로 원자적으로 선점
+ *
+ * - TICKET_STOCK:{ticketId}  : 남은 재고 (String 카운터)
+ * - TICKET_BUYERS:{ticketId} : 구매자 ID (Set)
+ * - 두 키는 같은 해시 태그({ticketId})를 사용하므로 Redis Cluster에서도 같은 슬롯에 위치
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketStockRedisRepository {
+
+    private static final String STOCK_KEY_PREFIX = "TICKET_STOCK:";
+    private static final String BUYERS_KEY_PREFIX = "TICKET_BUYERS:";
+
+    /**
+     * 중복 구매 확인 + 재고 확인 + 재고 차감 + 구매자 등록을 한 번에 수행
+     * 반환값: 남은 재고(>= 0), -1 중복 구매, -2 재고 부족, -3 재고 미초기화
+     */
+    private static final String RESERVE_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -3
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return -1
+            end
+            local stock = tonumber(redis.call('GET', KEYS[1]))
+            if stock <= 0 then
+                return -2
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return redis.call('DECR', KEYS[1])
+            """;
+
+    /**
+     * 선점 취소 (DB 반영 실패 시 보상)
+     */
+    private static final String CANCEL_SCRIPT = """
+            if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+                redis.call('INCR', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+
+    public StockReservationResult reserve(Long ticketId, String userId) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RESERVE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(stockKey(ticketId), buyersKey(ticketId)),
+                userId);
+        return StockReservationResult.from(result);
+    }
+
+    public void cancel(Long ticketId, String userId) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CANCEL_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(stockKey(ticketId), buyersKey(ticketId)),
+                userId);
+    }
+
+    /**
+     * 재고 키가 없을 때만 DB 재고로 초기화 (여러 인스턴스가 동시에 호출해도 한 번만 반영)
+     */
+    public void initializeIfAbsent(Long ticketId, int stock) {
+        redissonClient.getBucket(stockKey(ticketId), StringCodec.INSTANCE)
+                .setIfAbsent(String.valueOf(stock));
+    }
+
+    public void delete(Long ticketId) {
+        redissonClient.getKeys().delete(stockKey(ticketId), buyersKey(ticketId));
+    }
+
+    private String stockKey(Long ticketId) {
+        return STOCK_KEY_PREFIX + "{" + ticketId + "}";
+    }
+
+    private String buyersKey(Long ticketId) {
+        return BUYERS_KEY_PREFIX + "{" + ticketId + "}";
+    }
+}
@@ -0,0 +1,155 @@
+package com.ticket.lv3redisson.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 티켓별 대기열과 입장 토큰을 Redis에 보관
+ *
+ * - WAITING_QUEUE:{ticketId}            : 대기 중인 사용자 (score = 도착 시각, 먼저 온 순서)
+ * - WAITING_TOKENS:{ticketId}            : 입장 토큰 (member = userId, score = 만료 시각, 1회용)
+ * - WAITING_ADMISSION_GATE:{ticketId}   : 입장 처리 간격마다 한 인스턴스만 입장시키기 위한 게이트
+ * - WAITING_ROOM_TICKETS                : 대기 중인 사용자가 있는 티켓 ID 목록 (입장 스케줄러 대상)
+ * - 대기열/토큰/게이트 키는 같은 해시 태그를 사용하고 모두 KEYS로 넘기므로 클러스터에서도 한 노드에서 실행됨
+ * - 토큰을 사용자별 키로 두면 스크립트가 선언하지 않은 키를 쓰게 되므로 티켓별 Sorted Set 하나에 보관
+ */
+@Repository
+@RequiredArgsConstructor
+public class WaitingRoomRepository {
+
+    private static final String QUEUE_KEY_PREFIX = "WAITING_QUEUE:";
+    private static final String TOKEN_KEY_PREFIX = "WAITING_TOKENS:";
+    private static final String GATE_KEY_PREFIX = "WAITING_ADMISSION_GATE:";
+    private static final String ACTIVE_TICKETS_KEY = "WAITING_ROOM_TICKETS";
+
+    /**
+     * 게이트(SET NX PX)를 잡은 경우에만 만료된 토큰을 정리하고 앞에서부터 N명을 꺼내 입장 토큰 발급
+     * 반환값: 입장시킨 인원 수, -1 다른 인스턴스가 이번 간격의 입장을 이미 처리함
+     */
+    private static final String ADMIT_SCRIPT = """
+            if not redis.call('SET', KEYS[2], '1', 'NX', 'PX', ARGV[3]) then
+                return -1
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[4])
+            local users = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            local expiresAt = tonumber(ARGV[4]) + tonumber(ARGV[2])
+            for i = 1, #users, 2 do
+                redis.call('ZADD', KEYS[3], expiresAt, users[i])
+            end
+            if #users > 0 then
+                redis.call('PEXPIRE', KEYS[3], ARGV[2])
+            end
+            return #users / 2
+            """;
+
+    /**
+     * 토큰이 있으면 삭제하고, 만료 전이었으면 1 반환
+     */
+    private static final String CONSUME_TOKEN_SCRIPT = """
+            local expiresAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not expiresAt then
+                return 0
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            if tonumber(expiresAt) <= tonumber(ARGV[2]) then
+                return 0
+            end
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 대기열 등록 (이미 있으면 기존 순번 유지)
+     */
+    public void enter(Long ticketId, String userId, long arrivedAtMillis) {
+        queue(ticketId).addIfAbsent(arrivedAtMillis, userId);
+        redissonClient.getSet(ACTIVE_TICKETS_KEY, StringCodec.INSTANCE).add(String.valueOf(ticketId));
+    }
+
+    /**
+     * 대기 순번 (0부터 시작, 대기열에 없으면 null)
+     */
+    public Integer getRank(Long ticketId, String userId) {
+        return queue(ticketId).rank(userId);
+    }
+
+    public boolean hasToken(Long ticketId, String userId) {
+        Double expiresAt = tokens(ticketId).getScore(userId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 입장 토큰 사용 (만료 전 토큰이 있으면 삭제하고 true)
+     */
+    public boolean consumeToken(Long ticketId, String userId) {
+        Long consumed = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CONSUME_TOKEN_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(tokensKey(ticketId)),
+                userId,
+                String.valueOf(System.currentTimeMillis())
+        );
+        return consumed == 1L;
+    }
+
+    public long admit(Long ticketId, int count, long tokenTtlMillis, long gateTtlMillis) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ADMIT_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(queueKey(ticketId), GATE_KEY_PREFIX + "{" + ticketId + "}", tokensKey(ticketId)),
+                String.valueOf(count),
+                String.valueOf(tokenTtlMillis),
+                String.valueOf(gateTtlMillis),
+                String.valueOf(System.currentTimeMillis())
+        );
+    }
+
+    /**
+     * 대기열이 비었으면 입장 스케줄러 대상에서 제외
+     * (제외하는 사이 새로 등록된 사용자가 있으면 다시 추가 - enter는 대기열 등록 후 목록에 추가하므로 놓치지 않음)
+     */
+    public void deactivateIfDrained(Long ticketId) {
+        if (!queue(ticketId).isEmpty()) {
+            return;
+        }
+        RSet<String> activeTickets = redissonClient.getSet(ACTIVE_TICKETS_KEY, StringCodec.INSTANCE);
+        activeTickets.remove(String.valueOf(ticketId));
+        if (!queue(ticketId).isEmpty()) {
+            activeTickets.add(String.valueOf(ticketId));
+        }
+    }
+
+    public Set<Long> getActiveTicketIds() {
+        return redissonClient.<String>getSet(ACTIVE_TICKETS_KEY, StringCodec.INSTANCE).readAll().stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    private RScoredSortedSet<String> queue(Long ticketId) {
+        return redissonClient.getScoredSortedSet(queueKey(ticketId), StringCodec.INSTANCE);
+    }
+
+    private String queueKey(Long ticketId) {
+        return QUEUE_KEY_PREFIX + "{" + ticketId + "}";
+    }
+
+    private RScoredSortedSet<String> tokens(Long ticketId) {
+        return redissonClient.getScoredSortedSet(tokensKey(ticketId), StringCodec.INSTANCE);
+    }
+
+    private String tokensKey(Long ticketId) {
+        return TOKEN_KEY_PREFIX + "{" + ticketId + "}";
+    }
+}
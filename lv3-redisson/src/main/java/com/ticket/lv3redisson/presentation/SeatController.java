@@ -0,0 +1,67 @@
+package com.ticket.lv3redisson.presentation;
+
+import com.ticket.lv3redisson.application.SeatService;
+import com.ticket.lv3redisson.application.dto.SeatClaimResponse;
+import com.ticket.lv3redisson.application.dto.SeatMapResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tickets/{ticketId}/seats")
+@RequiredArgsConstructor
+public class SeatController {
+
+    private final SeatService seatService;
+
+    /**
+     * 좌석 배치 등록
+     */
+    @PostMapping("/layout")
+    public ResponseEntity<SeatMapResponse> initializeLayout(
+            @PathVariable Long ticketId,
+            @RequestParam int rows,
+            @RequestParam int seatsPerRow) {
+
+        return ResponseEntity.ok(seatService.initializeLayout(ticketId, rows, seatsPerRow));
+    }
+
+    /**
+     * 특정 좌석 예약
+     */
+    @PostMapping("/{seatNumber}/claim")
+    public ResponseEntity<SeatClaimResponse> claimSeat(
+            @PathVariable Long ticketId,
+            @PathVariable int seatNumber,
+            @RequestParam String userId) {
+
+        return ResponseEntity.ok(seatService.claimSeat(ticketId, seatNumber, userId));
+    }
+
+    /**
+     * 연속 좌석 자동 배정
+     */
+    @PostMapping("/block")
+    public ResponseEntity<SeatClaimResponse> claimBestBlock(
+            @PathVariable Long ticketId,
+            @RequestParam int count,
+            @RequestParam String userId) {
+
+        return ResponseEntity.ok(seatService.claimBestBlock(ticketId, count, userId));
+    }
+
+    @GetMapping
+    public ResponseEntity<SeatMapResponse> getSeatMap(@PathVariable Long ticketId) {
+        return ResponseEntity.ok(seatService.getSeatMap(ticketId));
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleIllegalStateException(IllegalStateException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -1,39 +1,91 @@
 package com.ticket.lv3redisson.presentation;
 
 import com.ticket.lv3redisson.application.dto.TicketResponse;
-import com.ticket.lv3redisson.domain.Ticket;
+import com.ticket.lv3redisson.application.SoldOutTicketRegistry;
 import com.ticket.lv3redisson.application.TicketService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/tickets")
 @RequiredArgsConstructor
 public class TicketController {
 
     private final TicketService ticketService;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
 
     @PostMapping("/{ticketId}/reserve")
     public ResponseEntity<String> reserveTicket(
             @PathVariable Long ticketId,
             @RequestParam String userId) {
 
+        rejectIfSoldOut(ticketId);
         ticketService.reserveTicketWithRedissonLock(ticketId, userId);
         return ResponseEntity.ok("예매 성공 (Redisson Lock)");
     }
 
+    /**
+     * 비동기 예매 (락 대기 중 요청 스레드를 반환하고, 완료 시 응답)
+     */
+    @PostMapping("/{ticketId}/reserve/async")
+    public CompletableFuture<ResponseEntity<String>> reserveTicketAsync(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        rejectIfSoldOut(ticketId);
+        return ticketService.reserveTicketWithRedissonLockAsync(ticketId, userId)
+                .thenApply(result -> ResponseEntity.ok("예매 성공 (Redisson Async Lock)"));
+    }
+
+    @PostMapping("/{ticketId}/reserve/lua")
+    public ResponseEntity<String> reserveTicketWithLuaScript(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        rejectIfSoldOut(ticketId);
+        ticketService.reserveTicketWithLuaScript(ticketId, userId);
+        return ResponseEntity.ok("예매 성공 (Lua Script)");
+    }
+
+    @PostMapping("/{ticketId}/reserve/sharded")
+    public ResponseEntity<String> reserveTicketWithShardedStock(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        rejectIfSoldOut(ticketId);
+        ticketService.reserveTicketWithShardedStock(ticketId, userId);
+        return ResponseEntity.ok("예매 성공 (Sharded Stock)");
+    }
+
+    /**
+     * 장바구니 예매 (여러 티켓을 한 번에 전부 예매하거나 전부 실패)
+     */
+    @PostMapping("/cart/reserve")
+    public ResponseEntity<String> reserveCart(
+            @RequestParam List<Long> ticketIds,
+            @RequestParam String userId) {
+
+        ticketIds.forEach(this::rejectIfSoldOut);
+        ticketService.reserveCartWithMultiLock(ticketIds, userId);
+        return ResponseEntity.ok("예매 성공 (Cart MultiLock)");
+    }
+
+    /**
+     * 매진된 티켓은 락/DB/Redis를 거치지 않고 바로 거절
+     */
+    private void rejectIfSoldOut(Long ticketId) {
+        if (soldOutTicketRegistry.isSoldOut(ticketId)) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+    }
+
     @GetMapping("/{ticketId}")
     public ResponseEntity<TicketResponse> getTicket(@PathVariable Long ticketId) {
-        Ticket ticket = ticketService.getTicket(ticketId);
-        long reservationCount = ticketService.getReservationCount(ticketId);
-
-        return ResponseEntity.ok(new TicketResponse(
-                ticket.getId(),
-                ticket.getName(),
-                ticket.getStock(),
-                reservationCount
-        ));
+        return ResponseEntity.ok(ticketService.getTicketView(ticketId));
     }
 
     @ExceptionHandler(IllegalStateException.class)
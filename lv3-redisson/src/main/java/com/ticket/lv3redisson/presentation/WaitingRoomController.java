@@ -0,0 +1,39 @@
+package com.ticket.lv3redisson.presentation;
+
+import com.ticket.lv3redisson.application.WaitingRoomService;
+import com.ticket.lv3redisson.application.dto.WaitingRoomStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/waiting-room")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.waiting-room.enabled", havingValue = "true")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * 대기열 등록
+     */
+    @PostMapping("/{ticketId}/enter")
+    public ResponseEntity<WaitingRoomStatusResponse> enter(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        return ResponseEntity.ok(waitingRoomService.enter(ticketId, userId));
+    }
+
+    /**
+     * 대기 순번 / 입장 여부 조회 (폴링용)
+     */
+    @GetMapping("/{ticketId}/status")
+    public ResponseEntity<WaitingRoomStatusResponse> getStatus(
+            @PathVariable Long ticketId,
+            @RequestParam String userId) {
+
+        return ResponseEntity.ok(waitingRoomService.getStatus(ticketId, userId));
+    }
+}
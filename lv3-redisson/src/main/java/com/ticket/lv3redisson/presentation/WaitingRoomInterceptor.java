@@ -0,0 +1,82 @@
+package com.ticket.lv3redisson.presentation;
+
+import com.ticket.lv3redisson.application.WaitingRoomService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예매 요청은 입장 토큰을 가진 사용자만 통과 (토큰은 1회 사용 후 삭제)
+ *
+ * - 티켓별 예매: 경로의 ticketId에 대한 토큰 필요
+ * - 장바구니 예매(경로에 ticketId 없음): ticketIds 파라미터의 모든 티켓에 대한 토큰 필요
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class WaitingRoomInterceptor implements HandlerInterceptor {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String ticketId = pathVariables == null ? null : pathVariables.get("ticketId");
+        String userId = request.getParameter("userId");
+
+        List<Long> ticketIds = ticketId != null
+                ? parseTicketIds(new String[]{ticketId})
+                : parseTicketIds(request.getParameterValues("ticketIds"));
+        if (ticketIds == null) {
+            reject(response, HttpStatus.BAD_REQUEST, "잘못된 티켓 ID입니다.");
+            return false;
+        }
+
+        if (userId != null && waitingRoomService.consumeTokens(ticketIds, userId)) {
+            return true;
+        }
+
+        log.warn("[Waiting Room] 입장 토큰 없음 - 티켓 ID: {}, 사용자: {}", ticketIds, userId);
+        reject(response, HttpStatus.TOO_MANY_REQUESTS, "대기열을 통과한 사용자만 예매할 수 있습니다. 대기열에 먼저 등록해주세요.");
+        return false;
+    }
+
+    /**
+     * 티켓 ID 목록 파싱 (쉼표로 구분된 값과 반복된 파라미터 모두 허용, 비어 있거나 숫자가 아니면 null)
+     */
+    private List<Long> parseTicketIds(String[] values) {
+        if (values == null) {
+            return null;
+        }
+        List<Long> ticketIds = new ArrayList<>();
+        try {
+            for (String value : values) {
+                for (String ticketId : value.split(",")) {
+                    ticketIds.add(Long.valueOf(ticketId.trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return ticketIds.isEmpty() ? null : ticketIds;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+}
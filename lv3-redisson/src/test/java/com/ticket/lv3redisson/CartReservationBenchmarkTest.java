@@ -0,0 +1,150 @@
+package com.ticket.lv3redisson;
+
+import com.ticket.lv3redisson.application.SoldOutTicketRegistry;
+import com.ticket.lv3redisson.application.TicketService;
+import com.ticket.lv3redisson.domain.Ticket;
+import com.ticket.lv3redisson.infrastructure.ReservationRepository;
+import com.ticket.lv3redisson.infrastructure.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * LV.3-6: 장바구니 예매 (MultiLock + 단일 트랜잭션) vs 티켓별 단건 예매 N회
+ *
+ * 티켓 3장(각 재고 100개)을 120명이 모두 한 번에 예매하려고 할 때
+ * - 장바구니: 3장을 전부 받거나 하나도 받지 않음 (절반은 역순으로 요청해도 교착 없음)
+ * - 단건 N회: 티켓마다 따로 락/트랜잭션을 거치므로 일부만 예매된 사용자가 생길 수 있음
+ */
+@SpringBootTest
+class CartReservationBenchmarkTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
+    private static final int TICKETS_PER_CART = 3;
+    private static final int STOCK_PER_TICKET = 100;
+    private static final int CONCURRENT_USERS = 120;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        ticketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("장바구니 예매 - 역순 요청이 섞여도 교착 없이 전부 또는 전무로 처리")
+    void testCartReservationIsAllOrNothing() throws InterruptedException {
+        // given
+        List<Long> ticketIds = createTickets();
+
+        // when
+        AtomicInteger completedCarts = new AtomicInteger();
+        long duration = runConcurrently(ticketIds, (cart, userId) -> {
+            ticketService.reserveCartWithMultiLock(cart, userId);
+            completedCarts.incrementAndGet();
+        });
+
+        // then - 모든 티켓이 같은 수만큼 팔리고, 예약 수 = 완료된 장바구니 수 x 티켓 수
+        for (Long ticketId : ticketIds) {
+            assertEquals(0, ticketService.getTicket(ticketId).getStock());
+            assertEquals(STOCK_PER_TICKET, ticketService.getReservationCount(ticketId));
+        }
+        assertEquals(STOCK_PER_TICKET, completedCarts.get());
+        assertEquals((long) STOCK_PER_TICKET * TICKETS_PER_CART, reservationRepository.count());
+
+        System.out.printf("[Cart MultiLock] 사용자 %d명 x 티켓 %d장: %dms, 완료된 장바구니 %d건%n",
+                CONCURRENT_USERS, TICKETS_PER_CART, duration, completedCarts.get());
+    }
+
+    @Test
+    @DisplayName("장바구니 예매 vs 단건 예매 N회 - 처리 시간과 부분 예매 비교")
+    void benchmarkCartVsSequentialReservations() throws InterruptedException {
+        // 1. 단건 예매 N회 (티켓마다 락 + 트랜잭션)
+        List<Long> sequentialTicketIds = createTickets();
+        AtomicInteger partialUsers = new AtomicInteger();
+        long sequentialDuration = runConcurrently(sequentialTicketIds, (cart, userId) -> {
+            int reserved = 0;
+            for (Long ticketId : cart) {
+                try {
+                    ticketService.reserveTicketWithRedissonLock(ticketId, userId);
+                    reserved++;
+                } catch (Exception e) {
+                    // 재고 부족 등으로 실패해도 나머지 티켓은 계속 시도 (원자성 없음)
+                }
+            }
+            if (reserved > 0 && reserved < cart.size()) {
+                partialUsers.incrementAndGet();
+            }
+        });
+
+        // 2. 장바구니 예매 (MultiLock + 단일 트랜잭션)
+        List<Long> cartTicketIds = createTickets();
+        long cartDuration = runConcurrently(cartTicketIds, ticketService::reserveCartWithMultiLock);
+
+        // then - 장바구니는 모든 티켓이 같은 수만큼 팔림
+        for (Long ticketId : cartTicketIds) {
+            assertEquals(STOCK_PER_TICKET, ticketService.getReservationCount(ticketId));
+        }
+
+        System.out.printf("[Sequential x%d] %dms (부분 예매 사용자 %d명) / [Cart MultiLock] %dms (부분 예매 없음)%n",
+                TICKETS_PER_CART, sequentialDuration, partialUsers.get(), cartDuration);
+    }
+
+    private List<Long> createTickets() {
+        List<Long> ticketIds = new ArrayList<>();
+        for (int i = 0; i < TICKETS_PER_CART; i++) {
+            Ticket ticket = ticketRepository.save(new Ticket("페스티벌 티켓 " + i, STOCK_PER_TICKET));
+            soldOutTicketRegistry.markAvailable(ticket.getId());
+            ticketIds.add(ticket.getId());
+        }
+        return ticketIds;
+    }
+
+    /**
+     * 사용자마다 장바구니 전체를 요청 (절반은 티켓 순서를 뒤집어 요청)
+     */
+    private long runConcurrently(List<Long> ticketIds, BiConsumer<List<Long>, String> reservation) throws InterruptedException {
+        final CountDownLatch countDownLatch = new CountDownLatch(CONCURRENT_USERS);
+        final List<Long> reversed = ticketIds.reversed();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_USERS; i++) {
+            List<Long> cart = i % 2 == 0 ? ticketIds : reversed;
+            String userId = "cart-user-" + i;
+            workers.add(new Thread(() -> {
+                try {
+                    reservation.accept(cart, userId);
+                } catch (Exception e) {
+                    // 재고 부족 등의 예외는 무시
+                } finally {
+                    countDownLatch.countDown();
+                }
+            }));
+        }
+
+        long startTime = System.currentTimeMillis();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+        return System.currentTimeMillis() - startTime;
+    }
+}
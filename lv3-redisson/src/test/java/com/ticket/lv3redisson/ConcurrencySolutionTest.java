@@ -2,8 +2,11 @@ package com.ticket.lv3redisson;
 
 import com.ticket.lv3redisson.domain.Ticket;
 import com.ticket.lv3redisson.infrastructure.ReservationRepository;
+import com.ticket.lv3redisson.infrastructure.ShardedTicketStockRepository;
 import com.ticket.lv3redisson.infrastructure.TicketRepository;
+import com.ticket.lv3redisson.infrastructure.TicketStockRedisRepository;
 import com.ticket.lv3redisson.application.TicketService;
+import com.ticket.lv3redisson.application.SoldOutTicketRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,10 +14,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * LV.3: Redisson 분산 락을 이용한 동시성 문제 해결 테스트
@@ -31,6 +37,15 @@ class ConcurrencySolutionTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private TicketStockRedisRepository ticketStockRedisRepository;
+
+    @Autowired
+    private ShardedTicketStockRepository shardedTicketStockRepository;
+
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
     private Long ticketId;
     private static final int INITIAL_STOCK = 100;
     private static final int CONCURRENT_USERS = 1000;
@@ -42,6 +57,9 @@ class ConcurrencySolutionTest {
 
         Ticket ticket = new Ticket("테스트 콘서트 티켓", INITIAL_STOCK);
         this.ticketId = ticketRepository.save(ticket).getId();
+        ticketStockRedisRepository.delete(ticketId);
+        shardedTicketStockRepository.delete(ticketId);
+        soldOutTicketRegistry.markAvailable(ticketId);
     }
 
     @Test
@@ -65,6 +83,8 @@ class ConcurrencySolutionTest {
 
         assertEquals(0, finalStock);
         assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+        assertTrue(soldOutTicketRegistry.isSoldOut(ticketId));
     }
 
     @Test
@@ -97,6 +117,132 @@ class ConcurrencySolutionTest {
         assertEquals(10, reservationCount);
     }
 
+    @Test
+    @DisplayName("Redisson 비동기 분산 락 - 100개 티켓을 1000명이 동시 예매 (요청 스레드 없이)")
+    void testRedissonAsyncLock() {
+        // given
+        final int people = CONCURRENT_USERS;
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, people)
+                .mapToObj(i -> ticketService.reserveTicketWithRedissonLockAsync(ticketId, "user-" + i)
+                        .exceptionally(e -> null)) // 재고 부족 등의 예외는 무시
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+        long reservationCount = ticketService.getReservationCount(ticketId);
+
+        assertEquals(0, finalStock);
+        assertEquals(INITIAL_STOCK, reservationCount);
+    }
+
+    @Test
+    @DisplayName("Redisson 동기 + 비동기 분산 락 혼용 - 100개 티켓을 1000명이 동시 예매")
+    void testRedissonSyncAndAsyncLockMixed() throws InterruptedException {
+        // given - 절반은 동기 락(스레드 ID 소유자), 절반은 비동기 락(요청별 소유자)으로 같은 티켓을 예매
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people / 2);
+
+        // when
+        List<Thread> workers = Stream
+                .generate(() -> new Thread(new RedissonLockWorker(ticketId, countDownLatch)))
+                .limit(people / 2)
+                .toList();
+        workers.forEach(Thread::start);
+        List<CompletableFuture<Void>> futures = IntStream.range(0, people / 2)
+                .mapToObj(i -> ticketService.reserveTicketWithRedissonLockAsync(ticketId, "async-user-" + i)
+                        .exceptionally(e -> null)) // 재고 부족 등의 예외는 무시
+                .toList();
+        countDownLatch.await();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+        long reservationCount = ticketService.getReservationCount(ticketId);
+
+        assertEquals(0, finalStock);
+        assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+    }
+
+    @Test
+    @DisplayName("Redis Lua 스크립트 - 100개 티켓을 1000명이 동시 예매")
+    void testLuaScript() throws InterruptedException {
+        // given
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+
+        // when
+        List<Thread> workers = Stream
+                .generate(() -> new Thread(new LuaScriptWorker(ticketId, countDownLatch)))
+                .limit(people)
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        // then
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+        long reservationCount = ticketService.getReservationCount(ticketId);
+
+        assertEquals(0, finalStock);
+        assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+    }
+
+    @Test
+    @DisplayName("Redis 샤딩 재고 - 100개 티켓을 1000명이 동시 예매")
+    void testShardedStock() throws InterruptedException {
+        // given
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+
+        // when
+        List<Thread> workers = Stream
+                .generate(() -> new Thread(new ShardedStockWorker(ticketId, countDownLatch)))
+                .limit(people)
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        // then
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+        long reservationCount = ticketService.getReservationCount(ticketId);
+
+        assertEquals(0, finalStock);
+        assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+        assertEquals(0, shardedTicketStockRepository.getRemainingStock(ticketId));
+    }
+
+    @Test
+    @DisplayName("Redis 샤딩 재고 - 샤드 키가 유실되면 DB 재고로 다시 채운 뒤 예매")
+    void testShardedStockReseedsAfterKeyLoss() throws InterruptedException {
+        // given - 일부 예매 후 Redis 샤드 키 유실 (재시작/Eviction)
+        final int reservedBeforeLoss = 10;
+        for (int i = 0; i < reservedBeforeLoss; i++) {
+            ticketService.reserveTicketWithShardedStock(ticketId, "user-before-loss-" + i);
+        }
+        shardedTicketStockRepository.delete(ticketId);
+
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+
+        // when
+        List<Thread> workers = Stream
+                .generate(() -> new Thread(new ShardedStockWorker(ticketId, countDownLatch)))
+                .limit(people)
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        // then - 유실 전 예매를 포함해 초기 재고만큼만 판매
+        assertEquals(0, ticketService.getTicket(ticketId).getStock());
+        assertEquals(INITIAL_STOCK, ticketService.getReservationCount(ticketId));
+        assertEquals(0, shardedTicketStockRepository.getRemainingStock(ticketId));
+    }
+
     /**
      * Redisson Lock Worker
      */
@@ -121,4 +267,54 @@ class ConcurrencySolutionTest {
             }
         }
     }
+
+    /**
+     * Lua Script Worker
+     */
+    private class LuaScriptWorker implements Runnable {
+        private final Long ticketId;
+        private final CountDownLatch countDownLatch;
+
+        public LuaScriptWorker(Long ticketId, CountDownLatch countDownLatch) {
+            this.ticketId = ticketId;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                String userId = "user-" + Thread.currentThread().threadId();
+                ticketService.reserveTicketWithLuaScript(ticketId, userId);
+            } catch (Exception e) {
+                // 재고 부족 등의 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+
+    /**
+     * Sharded Stock Worker
+     */
+    private class ShardedStockWorker implements Runnable {
+        private final Long ticketId;
+        private final CountDownLatch countDownLatch;
+
+        public ShardedStockWorker(Long ticketId, CountDownLatch countDownLatch) {
+            this.ticketId = ticketId;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                String userId = "user-" + Thread.currentThread().threadId();
+                ticketService.reserveTicketWithShardedStock(ticketId, userId);
+            } catch (Exception e) {
+                // 재고 부족 등의 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
 }
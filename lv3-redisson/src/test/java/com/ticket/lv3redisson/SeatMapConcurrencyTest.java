@@ -0,0 +1,167 @@
+package com.ticket.lv3redisson;
+
+import com.ticket.lv3redisson.application.SeatService;
+import com.ticket.lv3redisson.application.dto.SeatClaimResponse;
+import com.ticket.lv3redisson.domain.SeatReservation;
+import com.ticket.lv3redisson.domain.Ticket;
+import com.ticket.lv3redisson.infrastructure.SeatMapRepository;
+import com.ticket.lv3redisson.infrastructure.SeatReservationRepository;
+import com.ticket.lv3redisson.infrastructure.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LV.3-5: 좌석 비트맵 동시 선택 테스트
+ */
+@SpringBootTest
+class SeatMapConcurrencyTest {
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private SeatReservationRepository seatReservationRepository;
+
+    @Autowired
+    private SeatMapRepository seatMapRepository;
+
+    private Long ticketId;
+    private static final int ROWS = 10;
+    private static final int SEATS_PER_ROW = 20;
+    private static final int CONCURRENT_USERS = 1000;
+
+    @BeforeEach
+    void setUp() {
+        seatReservationRepository.deleteAll();
+        ticketRepository.deleteAll();
+
+        this.ticketId = ticketRepository.save(new Ticket("지정석 콘서트 티켓", ROWS * SEATS_PER_ROW)).getId();
+        seatMapRepository.delete(ticketId);
+        seatService.initializeLayout(ticketId, ROWS, SEATS_PER_ROW);
+    }
+
+    @Test
+    @DisplayName("특정 좌석 - 1000명이 같은 좌석을 동시에 선택하면 한 명만 성공")
+    void testClaimSameSeat() throws InterruptedException {
+        // given
+        final int seatNumber = 7;
+        final CountDownLatch countDownLatch = new CountDownLatch(CONCURRENT_USERS);
+        final AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        IntStream.range(0, CONCURRENT_USERS)
+                .mapToObj(i -> new Thread(new SeatClaimWorker(seatNumber, "user-" + i, successCount, countDownLatch)))
+                .forEach(Thread::start);
+        countDownLatch.await();
+
+        // then
+        assertEquals(1, successCount.get());
+        assertEquals(1, seatReservationRepository.countByTicketId(ticketId));
+        assertEquals(ROWS * SEATS_PER_ROW - 1, seatService.getSeatMap(ticketId).availableSeats());
+    }
+
+    @Test
+    @DisplayName("연속 좌석 - 1000명이 4석씩 동시에 요청하면 200석이 겹치지 않게 50명에게 배정")
+    void testClaimBestBlock() throws InterruptedException {
+        // given
+        final int count = 4;
+        final CountDownLatch countDownLatch = new CountDownLatch(CONCURRENT_USERS);
+        final Queue<SeatClaimResponse> claims = new ConcurrentLinkedQueue<>();
+
+        // when
+        IntStream.range(0, CONCURRENT_USERS)
+                .mapToObj(i -> new Thread(new BlockClaimWorker(count, "user-" + i, claims, countDownLatch)))
+                .forEach(Thread::start);
+        countDownLatch.await();
+
+        // then
+        assertEquals(ROWS * SEATS_PER_ROW / count, claims.size());
+        assertEquals(ROWS * SEATS_PER_ROW, seatReservationRepository.countByTicketId(ticketId));
+        assertEquals(0L, seatService.getSeatMap(ticketId).availableSeats());
+
+        // 같은 좌석이 두 번 배정되지 않고, 각 배정은 같은 열의 연속된 좌석
+        Map<Integer, Long> seatCounts = seatReservationRepository.findAll().stream()
+                .collect(Collectors.groupingBy(SeatReservation::getSeatNumber, Collectors.counting()));
+        assertTrue(seatCounts.values().stream().allMatch(c -> c == 1));
+        for (SeatClaimResponse claim : claims) {
+            List<Integer> seats = claim.seatNumbers();
+            assertEquals(count, seats.size());
+            assertEquals(seats.get(0) / SEATS_PER_ROW, seats.get(count - 1) / SEATS_PER_ROW);
+        }
+    }
+
+    /**
+     * 특정 좌석 선택 Worker
+     */
+    private class SeatClaimWorker implements Runnable {
+        private final int seatNumber;
+        private final String userId;
+        private final AtomicInteger successCount;
+        private final CountDownLatch countDownLatch;
+
+        public SeatClaimWorker(int seatNumber, String userId, AtomicInteger successCount, CountDownLatch countDownLatch) {
+            this.seatNumber = seatNumber;
+            this.userId = userId;
+            this.successCount = successCount;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                seatService.claimSeat(ticketId, seatNumber, userId);
+                successCount.incrementAndGet();
+            } catch (Exception e) {
+                // 이미 선택된 좌석 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+
+    /**
+     * 연속 좌석 배정 Worker
+     */
+    private class BlockClaimWorker implements Runnable {
+        private final int count;
+        private final String userId;
+        private final Queue<SeatClaimResponse> claims;
+        private final CountDownLatch countDownLatch;
+
+        public BlockClaimWorker(int count, String userId, Queue<SeatClaimResponse> claims, CountDownLatch countDownLatch) {
+            this.count = count;
+            this.userId = userId;
+            this.claims = claims;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                claims.add(seatService.claimBestBlock(ticketId, count, userId));
+            } catch (Exception e) {
+                // 연속 좌석 없음 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.ticket.lv3redisson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.lv3redisson.application.SoldOutTicketRegistry;
+import com.ticket.lv3redisson.application.TicketService;
+import com.ticket.lv3redisson.application.dto.WaitingRoomStatus;
+import com.ticket.lv3redisson.application.dto.WaitingRoomStatusResponse;
+import com.ticket.lv3redisson.domain.Ticket;
+import com.ticket.lv3redisson.infrastructure.ReservationRepository;
+import com.ticket.lv3redisson.infrastructure.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * LV.3-4: 가상 대기실 - 대기열 등록 -> 입장 -> 토큰으로 예매
+ */
+@SpringBootTest(properties = {
+        "ticket.waiting-room.enabled=true",
+        "ticket.waiting-room.admissions-per-second=100"
+})
+@AutoConfigureMockMvc
+class WaitingRoomConcurrencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
+    private Long ticketId;
+    private static final int INITIAL_STOCK = 100;
+    private static final int CONCURRENT_USERS = 100;
+    private static final long ADMISSION_TIMEOUT_MILLIS = 10_000;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        ticketRepository.deleteAll();
+
+        Ticket ticket = new Ticket("대기실 테스트 티켓", INITIAL_STOCK);
+        this.ticketId = ticketRepository.save(ticket).getId();
+        soldOutTicketRegistry.markAvailable(ticketId);
+    }
+
+    @Test
+    @DisplayName("대기실 - 100명이 대기열 등록 후 입장 토큰으로 동시 예매")
+    void testEnterAdmitAndReserve() throws InterruptedException {
+        // given
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+        final AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        long startTime = System.currentTimeMillis();
+        List<Thread> workers = IntStream.range(0, people)
+                .mapToObj(i -> new Thread(new WaitingRoomWorker(ticketId, "user-" + i, successCount, countDownLatch)))
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+        long duration = System.currentTimeMillis() - startTime;
+
+        // then
+        assertEquals(INITIAL_STOCK, successCount.get());
+        assertEquals(0, ticketService.getTicket(ticketId).getStock());
+        assertEquals(INITIAL_STOCK, ticketService.getReservationCount(ticketId));
+
+        System.out.printf("[Waiting Room] 사용자 %d명 등록 -> 입장 -> 예매: %dms%n", people, duration);
+    }
+
+    @Test
+    @DisplayName("대기실 - 입장 토큰 없이 예매하면 429, 토큰은 1회만 사용 가능")
+    void testReserveWithoutTokenIsRejected() throws Exception {
+        // when - 대기열 등록 없이 예매
+        int withoutToken = reserve(ticketId, "user-no-token");
+
+        // when - 입장 후 같은 토큰으로 두 번 예매
+        WaitingRoomWorker worker = new WaitingRoomWorker(ticketId, "user-admitted", new AtomicInteger(), new CountDownLatch(1));
+        worker.run();
+        int reusedToken = reserve(ticketId, "user-admitted");
+
+        // then
+        assertEquals(429, withoutToken);
+        assertEquals(429, reusedToken);
+        assertEquals(INITIAL_STOCK - 1, ticketService.getTicket(ticketId).getStock());
+        assertEquals(1, ticketService.getReservationCount(ticketId));
+    }
+
+    @Test
+    @DisplayName("대기실 - 숫자가 아닌 티켓 ID는 400")
+    void testInvalidTicketIdIsRejected() throws Exception {
+        // when
+        int invalidTicketId = mockMvc.perform(post("/api/tickets/abc/reserve").param("userId", "user-invalid"))
+                .andReturn().getResponse().getStatus();
+        int invalidCartTicketId = mockMvc.perform(post("/api/tickets/cart/reserve")
+                        .param("ticketIds", "abc")
+                        .param("userId", "user-invalid"))
+                .andReturn().getResponse().getStatus();
+
+        // then
+        assertEquals(400, invalidTicketId);
+        assertEquals(400, invalidCartTicketId);
+    }
+
+    @Test
+    @DisplayName("대기실 - 장바구니 예매도 담긴 모든 티켓의 입장 토큰이 있어야 통과")
+    void testCartWithoutTokenIsRejected() throws Exception {
+        // given
+        Long otherTicketId = ticketRepository.save(new Ticket("대기실 테스트 티켓 2", INITIAL_STOCK)).getId();
+        soldOutTicketRegistry.markAvailable(otherTicketId);
+
+        // when - 토큰 없이 장바구니 예매
+        int withoutToken = reserveCart("user-cart", ticketId, otherTicketId);
+
+        // when - 한 티켓만 입장한 상태로 장바구니 예매 후, 나머지 티켓도 입장하고 다시 예매
+        enterAndAwaitAdmission(ticketId, "user-cart");
+        int partialToken = reserveCart("user-cart", ticketId, otherTicketId);
+        enterAndAwaitAdmission(otherTicketId, "user-cart");
+        int allTokens = reserveCart("user-cart", ticketId, otherTicketId);
+
+        // then - 토큰이 모자란 요청은 토큰을 사용하지 않고 거절
+        assertEquals(429, withoutToken);
+        assertEquals(429, partialToken);
+        assertEquals(200, allTokens);
+        assertEquals(1, ticketService.getReservationCount(ticketId));
+        assertEquals(1, ticketService.getReservationCount(otherTicketId));
+    }
+
+    private int reserve(Long ticketId, String userId) throws Exception {
+        return mockMvc.perform(post("/api/tickets/{ticketId}/reserve", ticketId).param("userId", userId))
+                .andReturn().getResponse().getStatus();
+    }
+
+    private int reserveCart(String userId, Long... ticketIds) throws Exception {
+        MockHttpServletRequestBuilder builder = post("/api/tickets/cart/reserve").param("userId", userId);
+        for (Long id : ticketIds) {
+            builder.param("ticketIds", String.valueOf(id));
+        }
+        return mockMvc.perform(builder).andReturn().getResponse().getStatus();
+    }
+
+    /**
+     * 대기열 등록 후 입장될 때까지 상태 폴링
+     */
+    private void enterAndAwaitAdmission(Long ticketId, String userId) throws Exception {
+        WaitingRoomStatusResponse status = request(post("/api/waiting-room/{ticketId}/enter", ticketId), userId);
+        long deadline = System.currentTimeMillis() + ADMISSION_TIMEOUT_MILLIS;
+        while (status.status() != WaitingRoomStatus.ADMITTED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = request(get("/api/waiting-room/{ticketId}/status", ticketId), userId);
+        }
+    }
+
+    private WaitingRoomStatusResponse request(MockHttpServletRequestBuilder builder, String userId) throws Exception {
+        String body = mockMvc.perform(builder.param("userId", userId))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, WaitingRoomStatusResponse.class);
+    }
+
+    /**
+     * Waiting Room Worker (대기열 등록 -> 입장될 때까지 상태 폴링 -> 예매)
+     */
+    private class WaitingRoomWorker implements Runnable {
+        private final Long ticketId;
+        private final String userId;
+        private final AtomicInteger successCount;
+        private final CountDownLatch countDownLatch;
+
+        public WaitingRoomWorker(Long ticketId, String userId, AtomicInteger successCount, CountDownLatch countDownLatch) {
+            this.ticketId = ticketId;
+            this.userId = userId;
+            this.successCount = successCount;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                enterAndAwaitAdmission(ticketId, userId);
+
+                if (reserve(ticketId, userId) == 200) {
+                    successCount.incrementAndGet();
+                }
+            } catch (Exception e) {
+                // 입장 시간 초과 등의 예외는 무시
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.ticket.lv4kafka.application;
+
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import com.ticket.lv4kafka.application.dto.ReservationRequest;
+import com.ticket.lv4kafka.domain.ConsumerOffset;
+import com.ticket.lv4kafka.domain.Ticket;
+import com.ticket.lv4kafka.infrastructure.ConsumerOffsetRepository;
+import com.ticket.lv4kafka.infrastructure.ReservationRepository;
+import com.ticket.lv4kafka.infrastructure.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * LV.4: Exactly-Once Kafka Consumer
+ * (ticket.consumer.mode=exactly-once 일 때만 활성화)
+ *
+ * - poll 한 번의 레코드를 한 DB 트랜잭션에서 처리하고, 같은 트랜잭션에서 파티션별 처리 위치(consumer_offsets)를 갱신
+ *   -> 예약 반영과 오프셋 기록이 함께 커밋되거나 함께 롤백됨
+ * - 파티션을 할당받으면 Kafka 커밋 오프셋 대신 DB에 기록된 위치로 이동 (DB가 기준)
+ * - 이미 반영된 위치 이전의 레코드와, 이미 저장된 요청 ID(멱등성 키)는 다시 반영하지 않음
+ * - 같은 티켓의 요청은 같은 파티션으로만 들어오므로 분산 락 없이 처리
+ *   (리밸런싱 직후 이전 소유자와 겹치면 오프셋 행의 FOR UPDATE 락에서 순서가 정해짐)
+ * - Kafka 오프셋 커밋은 poll당 한 번 (커밋 전에 장애가 나도 DB 위치에서 다시 시작하므로 중복 반영 없음)
+ *
+ * 주의: 모든 인스턴스가 이 모드로 동작해야 함 (다른 모드와 섞이면 상호 배제가 깨짐)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ticket.consumer.mode", havingValue = "exactly-once")
+public class ExactlyOnceReservationConsumer implements ConsumerSeekAware {
+
+    private final TicketService ticketService;
+    private final TicketRepository ticketRepository;
+    private final ReservationRepository reservationRepository;
+    private final ConsumerOffsetRepository consumerOffsetRepository;
+    private final ReservationResultService reservationResultService;
+    private final TransactionTemplate transactionTemplate;
+    private final String groupId;
+
+    public ExactlyOnceReservationConsumer(TicketService ticketService,
+                                          TicketRepository ticketRepository,
+                                          ReservationRepository reservationRepository,
+                                          ConsumerOffsetRepository consumerOffsetRepository,
+                                          ReservationResultService reservationResultService,
+                                          TransactionTemplate transactionTemplate,
+                                          @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        this.ticketService = ticketService;
+        this.ticketRepository = ticketRepository;
+        this.reservationRepository = reservationRepository;
+        this.consumerOffsetRepository = consumerOffsetRepository;
+        this.reservationResultService = reservationResultService;
+        this.transactionTemplate = transactionTemplate;
+        this.groupId = groupId;
+    }
+
+    /**
+     * poll 한 번에 수신한 레코드를 한 트랜잭션으로 처리하고, 커밋 후 결과 통지 + 오프셋 커밋
+     * 처리 중 오류가 나면 트랜잭션 전체가 롤백되고, 에러 핸들러가 백오프 후 DB 처리 위치로 되돌려 같은 레코드부터 다시 처리
+     * (레코드를 건너뛰지 않음 - StoredOffsetSeekingErrorHandler)
+     */
+    @KafkaListener(
+            topics = "ticket-reservation",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "manualAckBatchKafkaListenerContainerFactory")
+    public void consumeReservationRequests(List<ConsumerRecord<String, ReservationRequest>> records,
+                                           Acknowledgment acknowledgment) {
+        log.info("[Exactly-Once Consumer] 예매 요청 수신 - {}건", records.size());
+
+        Map<String, ReservationOutcome> outcomes = transactionTemplate.execute(status -> process(records));
+
+        outcomes.forEach(reservationResultService::complete);
+        acknowledgment.acknowledge();
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        List<String> ids = assignments.keySet().stream()
+                .map(partition -> ConsumerOffset.idOf(groupId, partition.topic(), partition.partition()))
+                .toList();
+        for (ConsumerOffset offset : consumerOffsetRepository.findAllById(ids)) {
+            callback.seek(offset.getTopic(), offset.getPartitionNumber(), offset.getNextOffset());
+            log.info("[Exactly-Once Consumer] DB 처리 위치로 이동 - {}-{}: {}",
+                    offset.getTopic(), offset.getPartitionNumber(), offset.getNextOffset());
+        }
+    }
+
+    /**
+     * @return 요청 ID별 처리 결과 (커밋 후 통지)
+     */
+    private Map<String, ReservationOutcome> process(List<ConsumerRecord<String, ReservationRequest>> records) {
+        // 1. 파티션별 처리 위치를 잠그고, 이미 반영된 레코드는 제외
+        Map<TopicPartition, List<ConsumerRecord<String, ReservationRequest>>> recordsByPartition = records.stream()
+                .collect(Collectors.groupingBy(
+                        record -> new TopicPartition(record.topic(), record.partition()),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+
+        List<ReservationRequest> requests = new ArrayList<>();
+        Map<String, Long> nextOffsets = new LinkedHashMap<>();
+        recordsByPartition.forEach((partition, partitionRecords) -> {
+            String id = ConsumerOffset.idOf(groupId, partition.topic(), partition.partition());
+            consumerOffsetRepository.insertIfAbsent(id, groupId, partition.topic(), partition.partition());
+            long nextOffset = consumerOffsetRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new IllegalStateException("처리 위치를 찾을 수 없습니다: " + id))
+                    .getNextOffset();
+
+            partitionRecords.stream()
+                    .filter(record -> record.offset() >= nextOffset)
+                    .map(ConsumerRecord::value)
+                    .forEach(requests::add);
+            nextOffsets.put(id, partitionRecords.get(partitionRecords.size() - 1).offset() + 1);
+        });
+
+        // 2. 이미 반영된 요청 ID 제외 (Producer 재전송 등으로 같은 요청이 다시 들어온 경우)
+        Map<String, ReservationOutcome> outcomes = new LinkedHashMap<>();
+        List<ReservationRequest> pending = excludeApplied(requests, outcomes);
+
+        // 3. 티켓별로 묶어 일괄 처리 (수신 순서 유지)
+        Map<Long, List<ReservationRequest>> requestsByTicket = pending.stream()
+                .collect(Collectors.groupingBy(ReservationRequest::getTicketId, LinkedHashMap::new, Collectors.toList()));
+        Set<Long> existingTicketIds = ticketRepository.findAllById(requestsByTicket.keySet()).stream()
+                .map(Ticket::getId)
+                .collect(Collectors.toSet());
+
+        requestsByTicket.forEach((ticketId, ticketRequests) -> {
+            if (!existingTicketIds.contains(ticketId)) {
+                log.warn("[Exactly-Once Consumer] 존재하지 않는 티켓 - 티켓 ID: {}, 요청: {}건", ticketId, ticketRequests.size());
+                ticketRequests.forEach(request -> putOutcome(outcomes, request, ReservationOutcome.FAILED));
+                return;
+            }
+
+            List<ReservationOutcome> ticketOutcomes = ticketService.reserveTickets(
+                    ticketId,
+                    ticketRequests.stream().map(ReservationRequest::getUserId).toList(),
+                    ticketRequests.stream().map(ReservationRequest::getRequestId).toList());
+            for (int i = 0; i < ticketRequests.size(); i++) {
+                putOutcome(outcomes, ticketRequests.get(i), ticketOutcomes.get(i));
+            }
+        });
+
+        // 4. 처리 위치 갱신 (예약과 같은 트랜잭션에서 커밋)
+        nextOffsets.forEach(consumerOffsetRepository::advance);
+
+        log.info("[Exactly-Once Consumer] 처리 완료 - 수신: {}건, 반영 대상: {}건, 파티션: {}개",
+                records.size(), pending.size(), nextOffsets.size());
+        return outcomes;
+    }
+
+    /**
+     * 요청 ID가 이미 예약으로 저장된 요청은 RESERVED로 처리하고 제외
+     * 같은 poll 안에서 같은 요청 ID가 반복되면 처음 것만 남김
+     */
+    private List<ReservationRequest> excludeApplied(List<ReservationRequest> requests, Map<String, ReservationOutcome> outcomes) {
+        List<String> requestIds = requests.stream()
+                .map(ReservationRequest::getRequestId)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<String> appliedRequestIds = requestIds.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(reservationRepository.findExistingRequestIds(requestIds));
+
+        Set<String> seenRequestIds = new HashSet<>();
+        List<ReservationRequest> pending = new ArrayList<>();
+        for (ReservationRequest request : requests) {
+            String requestId = request.getRequestId();
+            if (requestId != null && appliedRequestIds.contains(requestId)) {
+                outcomes.put(requestId, ReservationOutcome.RESERVED);
+            } else if (requestId == null || seenRequestIds.add(requestId)) {
+                pending.add(request);
+            }
+        }
+        return pending;
+    }
+
+    private void putOutcome(Map<String, ReservationOutcome> outcomes, ReservationRequest request, ReservationOutcome outcome) {
+        if (request.getRequestId() != null) {
+            outcomes.put(request.getRequestId(), outcome);
+        }
+    }
+}
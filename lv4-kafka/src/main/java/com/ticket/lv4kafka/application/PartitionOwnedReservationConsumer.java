@@ -0,0 +1,122 @@
+package com.ticket.lv4kafka.application;
+
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import com.ticket.lv4kafka.application.dto.ReservationRequest;
+import com.ticket.lv4kafka.domain.Ticket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LV.4: Partition-Owned Kafka Consumer
+ * (ticket.consumer.mode=partition-owned 일 때만 활성화)
+ *
+ * - Producer가 ticketId를 키로 발행하므로 같은 티켓의 요청은 항상 같은 파티션으로 들어옴
+ * - 파티션은 컨슈머 그룹 안에서 한 스레드만 소유하므로, 파티션 소유권 자체를 상호 배제로 사용
+ * - 소유한 파티션의 티켓 상태(남은 재고, 구매자)를 메모리에 두고 분산 락 없이 판정
+ * - 리밸런싱으로 파티션이 바뀌면 해당 파티션의 상태를 버리고 DB에서 다시 구성
+ *
+ * 주의: 모든 인스턴스가 이 모드로 동작해야 함 (다른 모드와 섞이면 상호 배제가 깨짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.consumer.mode", havingValue = "partition-owned")
+public class PartitionOwnedReservationConsumer implements ConsumerSeekAware {
+
+    private final TicketService ticketService;
+    private final ReservationResultService reservationResultService;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
+
+    // 파티션 번호 -> (티켓 ID -> 티켓 상태)
+    private final Map<Integer, Map<Long, TicketState>> statesByPartition = new ConcurrentHashMap<>();
+
+    @KafkaListener(topics = "ticket-reservation", groupId = "${spring.kafka.consumer.group-id}")
+    public void consumeReservationRequest(ConsumerRecord<String, ReservationRequest> record) {
+        ReservationRequest request = record.value();
+        Long ticketId = request.getTicketId();
+        String userId = request.getUserId();
+
+        try {
+            Map<Long, TicketState> states = statesByPartition.computeIfAbsent(record.partition(), p -> new ConcurrentHashMap<>());
+            TicketState state = states.computeIfAbsent(ticketId, this::loadState);
+
+            // 1. 중복 구매 확인 (메모리)
+            if (state.buyers.contains(userId)) {
+                log.warn("[Partition-Owned Consumer] 중복 예매 시도 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+                reservationResultService.complete(request.getRequestId(), ReservationOutcome.DUPLICATE);
+                return;
+            }
+
+            // 2. 재고 확인 (메모리)
+            if (state.remainingStock <= 0) {
+                log.warn("[Partition-Owned Consumer] 재고 부족 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+                soldOutTicketRegistry.markSoldOut(ticketId);
+                reservationResultService.complete(request.getRequestId(), ReservationOutcome.SOLD_OUT);
+                return;
+            }
+
+            // 3. DB 반영 후 메모리 상태 갱신
+            try {
+                ticketService.confirmReservation(ticketId, userId);
+            } catch (RuntimeException e) {
+                // DB와 메모리 상태가 어긋났을 수 있으므로 다음 요청에서 다시 구성
+                states.remove(ticketId);
+                throw e;
+            }
+            state.buyers.add(userId);
+            state.remainingStock--;
+            reservationResultService.complete(request.getRequestId(), ReservationOutcome.RESERVED);
+
+        } catch (Exception e) {
+            log.error("[Partition-Owned Consumer] 예매 처리 실패 - 티켓 ID: {}, 사용자: {}, 에러: {}",
+                    ticketId, userId, e.getMessage());
+            reservationResultService.complete(request.getRequestId(), ReservationOutcome.FAILED);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        // 이전에 소유했던 적이 있더라도 그 사이 다른 컨슈머가 처리했을 수 있으므로 새로 구성
+        assignments.keySet().forEach(partition -> statesByPartition.remove(partition.partition()));
+        log.info("[Partition-Owned Consumer] 파티션 할당 - {}", assignments.keySet());
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        partitions.forEach(partition -> statesByPartition.remove(partition.partition()));
+        log.info("[Partition-Owned Consumer] 파티션 해제 - {}", partitions);
+    }
+
+    private TicketState loadState(Long ticketId) {
+        Ticket ticket = ticketService.getTicket(ticketId);
+        Set<String> buyers = new HashSet<>(ticketService.getReservedUserIds(ticketId));
+        log.info("[Partition-Owned Consumer] 티켓 상태 구성 - 티켓 ID: {}, 재고: {}, 구매자: {}명",
+                ticketId, ticket.getStock(), buyers.size());
+        return new TicketState(ticket.getStock(), buyers);
+    }
+
+    /**
+     * 파티션 소유 스레드만 접근하므로 별도의 동기화가 필요 없음
+     */
+    private static class TicketState {
+        private int remainingStock;
+        private final Set<String> buyers;
+
+        private TicketState(int remainingStock, Set<String> buyers) {
+            this.remainingStock = remainingStock;
+            this.buyers = buyers;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ticket.lv4kafka.application;
+
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import com.ticket.lv4kafka.application.dto.ReservationRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * LV.4: Kafka Batch Consumer
+ * poll 한 번에 가져온 메시지를 티켓별로 묶어서 한 번에 처리
+ * (ticket.consumer.mode=batch 일 때만 활성화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.consumer.mode", havingValue = "batch")
+public class ReservationBatchConsumer {
+
+    private final TicketReserveService ticketReserveService;
+    private final ReservationResultService reservationResultService;
+
+    /**
+     * Kafka에서 예매 요청 메시지를 묶음으로 받아서 처리
+     *
+     * @param requests poll 한 번에 수신한 예매 요청 목록
+     */
+    @KafkaListener(
+            topics = "ticket-reservation",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void consumeReservationRequests(List<ReservationRequest> requests) {
+        log.info("[Kafka Batch Consumer] 예매 요청 수신 - {}건", requests.size());
+
+        // 티켓별로 묶되, 같은 티켓 안에서는 수신 순서 유지
+        Map<Long, List<ReservationRequest>> requestsByTicket = requests.stream()
+                .collect(Collectors.groupingBy(ReservationRequest::getTicketId, LinkedHashMap::new, Collectors.toList()));
+
+        requestsByTicket.forEach(this::processTicketRequests);
+    }
+
+    private void processTicketRequests(Long ticketId, List<ReservationRequest> requests) {
+        List<String> userIds = requests.stream().map(ReservationRequest::getUserId).toList();
+
+        try {
+            List<ReservationOutcome> outcomes = ticketReserveService.processReservations(ticketId, userIds);
+            for (int i = 0; i < userIds.size(); i++) {
+                reservationResultService.complete(requests.get(i).getRequestId(), outcomes.get(i));
+                log.info("[Kafka Batch Consumer] 예매 처리 결과 - 티켓 ID: {}, 사용자: {}, 결과: {}",
+                        ticketId, userIds.get(i), outcomes.get(i));
+            }
+        } catch (Exception e) {
+            log.error("[Kafka Batch Consumer] 예매 처리 실패 - 티켓 ID: {}, 요청: {}건, 에러: {}",
+                    ticketId, requests.size(), e.getMessage());
+            requests.forEach(request -> reservationResultService.complete(request.getRequestId(), ReservationOutcome.FAILED));
+        }
+    }
+}
@@ -1,39 +1,96 @@
 package com.ticket.lv4kafka.application;
 
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
 import com.ticket.lv4kafka.application.dto.ReservationRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 /**
  * LV.4: Kafka Consumer
  * Kafka에서 메시지를 소비하여 실제 예매 처리를 수행하는 역할
+ *
+ * 실패한 메시지는 재시도 토픽으로 넘겨 원래 파티션은 멈추지 않고 계속 처리
+ * - 락 획득 타임아웃, 일시적인 DB 오류(락/쿼리 타임아웃, 커넥션 획득 실패): 지연 재시도 토픽에서 다시 처리
+ *   (ticket-reservation-retry-0 -> -1 -> -2, 대기 시간이 단계마다 2배)
+ * - 중복 구매/재고 부족: 최종 결과이므로 재시도하지 않음
+ * - 재시도를 모두 소진했거나 재시도 대상이 아닌 오류: ticket-reservation-dlt로 보내고 FAILED 처리
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "ticket.consumer.mode", havingValue = "single", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ReservationConsumer {
 
+    private static final String RESERVATION_TOPIC = "ticket-reservation";
+
     private final TicketReserveService ticketReserveService;
+    private final ReservationResultService reservationResultService;
+    private final ReservationMetrics reservationMetrics;
 
     /**
      * Kafka에서 예매 요청 메시지를 받아서 처리
      *
      * @param request 예매 요청 정보
      */
-    @KafkaListener(topics = "ticket-reservation", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeReservationRequest(ReservationRequest request) {
-        log.info("[Kafka Consumer] 예매 요청 수신 - 티켓 ID: {}, 사용자: {}", request.getTicketId(), request.getUserId());
+    @RetryableTopic(
+            attempts = "${ticket.consumer.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${ticket.consumer.retry.delay-ms:1000}",
+                    multiplier = 2.0,
+                    maxDelayExpression = "${ticket.consumer.retry.max-delay-ms:10000}"),
+            include = {
+                    ReservationLockTimeoutException.class,
+                    TransientDataAccessException.class,
+                    RecoverableDataAccessException.class,
+                    CannotCreateTransactionException.class
+            },
+            traversingCauses = "true",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            kafkaTemplate = "kafkaTemplate")
+    @KafkaListener(topics = RESERVATION_TOPIC, groupId = "${spring.kafka.consumer.group-id}")
+    public void consumeReservationRequest(ReservationRequest request,
+                                          @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.info("[Kafka Consumer] 예매 요청 수신 - 티켓 ID: {}, 사용자: {}, 토픽: {}", request.getTicketId(), request.getUserId(), topic);
+        if (!RESERVATION_TOPIC.equals(topic)) {
+            reservationMetrics.recordRetry(ReservationMetrics.KAFKA_SINGLE, request.getTicketId());
+        }
 
         try {
             // Redisson Lock을 이용한 예매 처리
             ticketReserveService.processReservation(request.getTicketId(), request.getUserId());
+            reservationResultService.complete(request.getRequestId(), ReservationOutcome.RESERVED);
             log.info("[Kafka Consumer] 예매 처리 완료 - 티켓 ID: {}, 사용자: {}", request.getTicketId(), request.getUserId());
-        } catch (Exception e) {
-            log.error("[Kafka Consumer] 예매 처리 실패 - 티켓 ID: {}, 사용자: {}, 에러: {}",
-                    request.getTicketId(), request.getUserId(), e.getMessage());
-            // TODO: 실패한 메시지를 DLQ로 보내거나 재시도 로직 추가 가능
+        } catch (ReservationRejectedException e) {
+            reservationResultService.complete(request.getRequestId(), e.getOutcome());
+            log.info("[Kafka Consumer] 예매 거절 - 티켓 ID: {}, 사용자: {}, 사유: {}",
+                    request.getTicketId(), request.getUserId(), e.getOutcome());
+        } catch (RuntimeException e) {
+            // 결과는 PENDING으로 두고 재시도 토픽 / DLT로 넘김
+            log.warn("[Kafka Consumer] 예매 처리 실패 - 티켓 ID: {}, 사용자: {}, 토픽: {}, 에러: {}",
+                    request.getTicketId(), request.getUserId(), topic, e.getMessage());
+            throw e;
         }
     }
+
+    /**
+     * 재시도를 모두 소진했거나 재시도 대상이 아닌 오류로 실패한 메시지
+     */
+    @DltHandler
+    public void handleDeadLetter(ReservationRequest request, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        reservationResultService.complete(request.getRequestId(), ReservationOutcome.FAILED);
+        log.error("[Kafka Consumer] 예매 처리 최종 실패 - 티켓 ID: {}, 사용자: {}, 토픽: {}",
+                request.getTicketId(), request.getUserId(), topic);
+    }
 }
@@ -0,0 +1,11 @@
+package com.ticket.lv4kafka.application;
+
+/**
+ * 대기 시간 안에 티켓 락을 얻지 못한 경우 (잠시 후 다시 처리하면 성공할 수 있음)
+ */
+public class ReservationLockTimeoutException extends IllegalStateException {
+
+    public ReservationLockTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,14 @@
 package com.ticket.lv4kafka.application;
 
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
 import com.ticket.lv4kafka.application.dto.ReservationRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 /**
  * LV.4: Kafka Producer
  * API 요청을 받아 Kafka에 메시지를 발행하는 역할
@@ -18,15 +21,18 @@ public class ReservationProducer {
     private static final String TOPIC_NAME = "ticket-reservation";
 
     private final KafkaTemplate<String, ReservationRequest> kafkaTemplate;
+    private final ReservationResultService reservationResultService;
 
     /**
      * 예매 요청을 Kafka에 발행
      *
      * @param ticketId 티켓 ID
      * @param userId 사용자 ID
+     * @return 처리 결과 조회용 요청 ID (발행에 실패하면 결과가 FAILED로 기록됨)
      */
-    public void sendReservationRequest(Long ticketId, String userId) {
-        ReservationRequest request = new ReservationRequest(ticketId, userId);
+    public String sendReservationRequest(Long ticketId, String userId) {
+        String requestId = UUID.randomUUID().toString();
+        ReservationRequest request = new ReservationRequest(ticketId, userId, requestId);
 
         kafkaTemplate.send(TOPIC_NAME, String.valueOf(ticketId), request)
                 .whenComplete((result, ex) -> {
@@ -35,7 +41,18 @@ public class ReservationProducer {
                     } else {
                         log.error("[Kafka Producer] 예매 요청 발행 실패 - 티켓 ID: {}, 사용자: {}, errorMsg: {}", ticketId, userId,
                                 ex.getMessage());
+                        // Consumer에 도달하지 못한 요청이므로 직접 실패로 기록 (SSE/폴링 클라이언트가 PENDING으로 남지 않도록)
+                        failRequest(requestId);
                     }
                 });
+        return requestId;
+    }
+
+    private void failRequest(String requestId) {
+        try {
+            reservationResultService.complete(requestId, ReservationOutcome.FAILED);
+        } catch (Exception e) {
+            log.error("[Kafka Producer] 발행 실패 결과 기록 실패 - 요청 ID: {}, errorMsg: {}", requestId, e.getMessage());
+        }
     }
 }
@@ -0,0 +1,18 @@
+package com.ticket.lv4kafka.application;
+
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import lombok.Getter;
+
+/**
+ * 중복 구매, 재고 부족 등 비즈니스 규칙에 의해 예매가 거절된 경우
+ */
+@Getter
+public class ReservationRejectedException extends IllegalStateException {
+
+    private final ReservationOutcome outcome;
+
+    public ReservationRejectedException(ReservationOutcome outcome, String message) {
+        super(message);
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,109 @@
+package com.ticket.lv4kafka.application;
+
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import com.ticket.lv4kafka.application.dto.ReservationResultResponse;
+import com.ticket.lv4kafka.infrastructure.ReservationResultRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 예매 처리 결과 저장 및 대기 중인 클라이언트에게 SSE로 통지
+ *
+ * - Consumer가 결과를 Redis에 저장하고 Pub/Sub으로 모든 인스턴스에 알림
+ * - 각 인스턴스는 자신에게 연결된 SSE 클라이언트에게만 결과를 전송
+ * - 클라이언트는 GET /api/tickets/{id}를 반복 호출하지 않고 결과를 기다릴 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationResultService {
+
+    private static final String RESULT_TOPIC = "reservation-results";
+    private static final String EVENT_NAME = "reservation-result";
+    private static final long SSE_TIMEOUT_MILLIS = 30_000L;
+
+    private final RedissonClient redissonClient;
+    private final ReservationResultRepository reservationResultRepository;
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private RTopic resultTopic;
+
+    @PostConstruct
+    void listenResults() {
+        resultTopic = redissonClient.getTopic(RESULT_TOPIC, StringCodec.INSTANCE);
+        resultTopic.addListener(String.class, (channel, message) -> {
+            int separator = message.lastIndexOf(':');
+            notifyEmitters(message.substring(0, separator), ReservationOutcome.valueOf(message.substring(separator + 1)));
+        });
+    }
+
+    /**
+     * Consumer가 처리 결과를 기록
+     */
+    public void complete(String requestId, ReservationOutcome outcome) {
+        if (requestId == null) {
+            return;
+        }
+        reservationResultRepository.save(requestId, outcome);
+        resultTopic.publish(requestId + ":" + outcome.name());
+    }
+
+    public ReservationOutcome getOutcome(String requestId) {
+        return reservationResultRepository.find(requestId);
+    }
+
+    /**
+     * 결과를 기다리는 SSE 연결 생성
+     * 이미 결과가 나온 경우 즉시 전송 후 종료
+     */
+    public SseEmitter subscribe(String requestId) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        emitters.computeIfAbsent(requestId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        Runnable remove = () -> emitters.computeIfPresent(requestId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // 등록 이후에 결과를 확인하므로 그 사이에 발행된 결과도 놓치지 않음
+        ReservationOutcome outcome = reservationResultRepository.find(requestId);
+        if (outcome.isCompleted()) {
+            notifyEmitters(requestId, outcome);
+        }
+        return emitter;
+    }
+
+    private void notifyEmitters(String requestId, ReservationOutcome outcome) {
+        List<SseEmitter> waiting = emitters.remove(requestId);
+        if (waiting == null) {
+            return;
+        }
+
+        ReservationResultResponse response = new ReservationResultResponse(requestId, outcome);
+        for (SseEmitter emitter : waiting) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(response));
+                emitter.complete();
+            } catch (IOException e) {
+                log.warn("[SSE] 결과 전송 실패 - 요청 ID: {}, 에러: {}", requestId, e.getMessage());
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ticket.lv4kafka.application;
+
+import jakarta.annotation.PostConstruct;
+import com.ticket.lv4kafka.infrastructure.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매진된 티켓 ID Near-Cache (모든 인스턴스 공유)
+ *
+ * - 매진 여부는 로컬 Set에서 확인하므로 매진 이후의 요청은 락/DB/Redis 왕복 없이 거절
+ * - 한 인스턴스가 매진을 확인하면 Redis Set(SOLD_OUT_TICKETS)에 기록하고 Redis Topic으로 다른 인스턴스에 전파
+ * - 시작 시 DB 재고 기준으로 Redis Set을 다시 만듦 (ddl-auto: create로 티켓 ID가 재사용되면 이전 매진 기록이 새 티켓을 막으므로)
+ * - 매진과 재고 복구 메시지는 같은 Topic으로 보내 순서가 뒤바뀌지 않도록 함
+ * - 매진 기록 전후로 DB 재고를 확인하여, 동시에 재고가 복구되면 DB 기준으로 되돌림 (DB가 최종 기준)
+ *
+ * 전파 전까지는 다른 인스턴스가 기존 경로로 처리하고 거절하므로 정합성에는 영향이 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutTicketRegistry {
+
+    private static final String SOLD_OUT_SET_KEY = "SOLD_OUT_TICKETS";
+    private static final String STATUS_TOPIC = "ticket-sold-out";
+    private static final String SOLD_OUT = "SOLD_OUT:";
+    private static final String AVAILABLE = "AVAILABLE:";
+
+    private final RedissonClient redissonClient;
+    private final TicketRepository ticketRepository;
+
+    private final Set<Long> soldOutTickets = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 구독을 먼저 시작한 뒤 목록을 읽어야 그 사이에 발생한 매진을 놓치지 않음
+     * 이전 실행에서 남은 Redis 매진 기록은 버리고 DB에서 재고가 0인 티켓으로 다시 채움
+     */
+    @PostConstruct
+    public void listen() {
+        statusTopic().addListener(String.class, (channel, message) -> {
+            if (message.startsWith(SOLD_OUT)) {
+                soldOutTickets.add(Long.valueOf(message.substring(SOLD_OUT.length())));
+            } else if (message.startsWith(AVAILABLE)) {
+                soldOutTickets.remove(Long.valueOf(message.substring(AVAILABLE.length())));
+            }
+        });
+        List<Long> soldOutTicketIds = ticketRepository.findSoldOutTicketIds();
+        RSet<String> soldOutSet = soldOutSet();
+        soldOutSet.delete();
+        soldOutSet.addAll(soldOutTicketIds.stream().map(String::valueOf).toList());
+        soldOutTickets.addAll(soldOutTicketIds);
+        log.info("[Sold Out] DB 기준 매진 티켓 목록 로드 - {}개", soldOutTickets.size());
+    }
+
+    public boolean isSoldOut(Long ticketId) {
+        return soldOutTickets.contains(ticketId);
+    }
+
+    /**
+     * 재고가 0임을 확인했을 때 호출 (이미 알고 있는 매진이면 Redis를 거치지 않음)
+     *
+     * - DB에 재고가 남아 있으면 기록하지 않음 (반영 중인 예약, 취소로 복구된 재고)
+     * - 기록 중에 markAvailable이 먼저 끝났을 수 있으므로 전파 후 DB 재고를 다시 확인하여 되돌림
+     */
+    public void markSoldOut(Long ticketId) {
+        if (soldOutTickets.contains(ticketId)) {
+            return;
+        }
+        try {
+            if (hasStock(ticketId)) {
+                return;
+            }
+            soldOutTickets.add(ticketId);
+            if (soldOutSet().add(String.valueOf(ticketId))) {
+                statusTopic().publish(SOLD_OUT + ticketId);
+                log.info("[Sold Out] 매진 전파 - 티켓 ID: {}", ticketId);
+            }
+            if (hasStock(ticketId)) {
+                log.info("[Sold Out] 매진 기록 중 재고 복구 확인 - 티켓 ID: {}", ticketId);
+                markAvailable(ticketId);
+            }
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 인스턴스는 기존 경로에서 매진을 확인하고 다시 시도함
+            log.warn("[Sold Out] 매진 전파 실패 - 티켓 ID: {}, 에러: {}", ticketId, e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 재고를 모두 소진한 경우 (커밋되어야 매진이 확정되므로 커밋 이후에 기록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketSoldOut(TicketSoldOutEvent event) {
+        markSoldOut(event.ticketId());
+    }
+
+    /**
+     * 재고가 다시 생겼을 때 호출 (선점 취소, 재입고 등)
+     */
+    public void markAvailable(Long ticketId) {
+        boolean removed = soldOutTickets.remove(ticketId);
+        if (soldOutSet().remove(String.valueOf(ticketId)) || removed) {
+            statusTopic().publish(AVAILABLE + ticketId);
+            log.info("[Sold Out] 매진 해제 전파 - 티켓 ID: {}", ticketId);
+        }
+    }
+
+    private boolean hasStock(Long ticketId) {
+        return ticketRepository.findStockById(ticketId).orElse(0) > 0;
+    }
+
+    private RSet<String> soldOutSet() {
+        return redissonClient.getSet(SOLD_OUT_SET_KEY, StringCodec.INSTANCE);
+    }
+
+    private RTopic statusTopic() {
+        return redissonClient.getTopic(STATUS_TOPIC, StringCodec.INSTANCE);
+    }
+}
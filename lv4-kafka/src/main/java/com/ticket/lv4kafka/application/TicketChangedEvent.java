@@ -0,0 +1,6 @@
+package com.ticket.lv4kafka.application;
+
+/**
+ * 티켓 재고/예약 건수가 변경되었음을 알리는 이벤트 (조회 캐시 무효화용)
+ */
+public record TicketChangedEvent(Long ticketId) {}
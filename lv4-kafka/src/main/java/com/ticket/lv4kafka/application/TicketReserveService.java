@@ -1,11 +1,14 @@
 package com.ticket.lv4kafka.application;
 
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -19,6 +22,7 @@ public class TicketReserveService {
 
     private final RedissonClient redissonClient;
     private final TicketService ticketService;
+    private final ReservationMetrics reservationMetrics;
 
     /**
      * Kafka Consumer가 메시지를 받아서 실제 예매 처리를 수행하는 메서드
@@ -27,19 +31,35 @@ public class TicketReserveService {
     public void processReservation(Long ticketId, String userId) {
         String lockKey = LOCK_KEY_PREFIX + ticketId;
         RLock lock = redissonClient.getLock(lockKey);
+        Timer.Sample holdSample = null;
 
         try {
+            Timer.Sample waitSample = reservationMetrics.start();
             boolean acquired = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+            reservationMetrics.recordLockWait(ReservationMetrics.KAFKA_SINGLE, ticketId, waitSample, acquired);
 
             if (!acquired) {
                 log.error("[Kafka Consumer] 락 획득 실패 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
-                throw new IllegalStateException("예매 처리 중입니다. 잠시 후 다시 시도해주세요.");
+                reservationMetrics.recordRejection(ReservationMetrics.KAFKA_SINGLE, ticketId, "lock_timeout");
+                throw new ReservationLockTimeoutException("예매 처리 중입니다. 잠시 후 다시 시도해주세요.");
             }
 
+            holdSample = reservationMetrics.start();
             log.info("[Kafka Consumer] 락 획득 성공 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
 
-            // 트랜잭션 내에서 비즈니스 로직 수행
-            ticketService.reserveTicket(ticketId, userId);
+            // 트랜잭션 내에서 비즈니스 로직 수행 (시작~커밋/롤백 시간과 거절 사유 기록)
+            Timer.Sample transactionSample = reservationMetrics.start();
+            try {
+                ticketService.reserveTicket(ticketId, userId);
+                reservationMetrics.recordTransaction(ReservationMetrics.KAFKA_SINGLE, ticketId, transactionSample, true);
+            } catch (RuntimeException e) {
+                reservationMetrics.recordTransaction(ReservationMetrics.KAFKA_SINGLE, ticketId, transactionSample, false);
+                if (e instanceof ReservationRejectedException rejected) {
+                    reservationMetrics.recordRejection(ReservationMetrics.KAFKA_SINGLE, ticketId,
+                            rejected.getOutcome().name().toLowerCase());
+                }
+                throw e;
+            }
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -47,9 +67,39 @@ public class TicketReserveService {
             throw new RuntimeException("예매 처리 중 오류가 발생했습니다.", e);
         } finally {
             if (lock.isHeldByCurrentThread()) {
+                reservationMetrics.recordLockHold(ReservationMetrics.KAFKA_SINGLE, ticketId, holdSample);
                 lock.unlock();
                 log.info("[Kafka Consumer] 락 해제 - 티켓 ID: {}", ticketId);
             }
         }
     }
+
+    /**
+     * Batch Consumer가 같은 티켓의 요청들을 모아서 처리하는 메서드
+     * 락은 요청 건수와 관계없이 티켓당 한 번만 획득
+     */
+    public List<ReservationOutcome> processReservations(Long ticketId, List<String> userIds) {
+        String lockKey = LOCK_KEY_PREFIX + ticketId;
+        RLock lock = redissonClient.getLock(lockKey);
+
+        try {
+            boolean acquired = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+
+            if (!acquired) {
+                log.error("[Kafka Batch Consumer] 락 획득 실패 - 티켓 ID: {}, 요청: {}건", ticketId, userIds.size());
+                throw new ReservationLockTimeoutException("예매 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            return ticketService.reserveTickets(ticketId, userIds);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[Kafka Batch Consumer] 락 획득 중 인터럽트 발생 - 티켓 ID: {}", ticketId, e);
+            throw new RuntimeException("예매 처리 중 오류가 발생했습니다.", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
 }
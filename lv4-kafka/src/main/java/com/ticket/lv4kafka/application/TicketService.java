@@ -1,14 +1,26 @@
 package com.ticket.lv4kafka.application;
 
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import com.ticket.lv4kafka.application.dto.TicketResponse;
 import com.ticket.lv4kafka.domain.Reservation;
 import com.ticket.lv4kafka.domain.Ticket;
 import com.ticket.lv4kafka.infrastructure.ReservationRepository;
+import com.ticket.lv4kafka.infrastructure.TicketBuyerFilterRepository;
 import com.ticket.lv4kafka.infrastructure.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -16,26 +28,127 @@ public class TicketService {
 
     private final TicketRepository ticketRepository;
     private final ReservationRepository reservationRepository;
+    private final TicketBuyerFilterRepository ticketBuyerFilterRepository;
+    private final TicketViewCache ticketViewCache;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void reserveTicket(Long ticketId, String userId) {
+        // 10ms 지연 (실제 비즈니스 로직 시뮬레이션)
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        // 1. 예약 정보 저장 + 중복 구매 확인 (INSERT ... ON CONFLICT DO NOTHING)
+        if (reservationRepository.insertIfAbsent(ticketId, userId, LocalDateTime.now()) == 0) {
+            log.warn("[Kafka Consumer] 중복 예매 시도 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            throw new ReservationRejectedException(ReservationOutcome.DUPLICATE, "이미 예매한 티켓입니다.");
+        }
+
+        // 2. 재고 확인 + 차감 (UPDATE ... WHERE stock >= 1, 실패 시 위 INSERT도 롤백)
+        if (ticketRepository.decreaseStock(ticketId, 1) == 0) {
+            if (!ticketRepository.existsById(ticketId)) {
+                throw new IllegalArgumentException("티켓을 찾을 수 없습니다.");
+            }
+            log.warn("[Kafka Consumer] 재고 부족 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+            soldOutTicketRegistry.markSoldOut(ticketId);
+            throw new ReservationRejectedException(ReservationOutcome.SOLD_OUT, "재고가 부족합니다.");
+        }
+        // 이 경로는 Bloom 필터를 읽지 않으므로 구매자를 기록하는 대신 필터를 폐기 (필터를 읽는 경로가 DB에서 다시 시드)
+        ticketBuyerFilterRepository.discard(ticketId);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+
+        log.info("[Kafka Consumer] 예약 완료 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+    }
+
+    /**
+     * 같은 티켓에 대한 여러 예매 요청을 한 트랜잭션으로 처리 (Batch Consumer용)
+     *
+     * - 재고 확인 1회, 중복 구매 확인 쿼리 최대 1회 (Bloom 필터가 "있을 수도 있음"이라고 한 사용자만 조회)
+     * - 재고 차감 UPDATE 1회 (stock = stock - k)
+     * - 예약 정보 k건을 JDBC 배치 INSERT (batch_size 단위)
+     *
+     * @return 요청 순서대로의 처리 결과
+     */
+    @Transactional
+    public List<ReservationOutcome> reserveTickets(Long ticketId, List<String> userIds) {
+        return reserveTickets(ticketId, userIds, Collections.nCopies(userIds.size(), null));
+    }
+
+    /**
+     * 요청 ID(멱등성 키)를 함께 저장하는 일괄 처리 (Exactly-Once Consumer용)
+     *
+     * @param requestIds userIds와 같은 순서의 요청 ID (없으면 null)
+     */
+    @Transactional
+    public List<ReservationOutcome> reserveTickets(Long ticketId, List<String> userIds, List<String> requestIds) {
         // 1. 티켓 조회
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
 
-        // 2. 중복 구매 확인
-        boolean alreadyReserved = reservationRepository.existsByTicketIdAndUserId(ticketId, userId);
-        if (alreadyReserved) {
-            log.warn("[Kafka Consumer] 중복 예매 시도 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
-            throw new IllegalStateException("이미 예매한 티켓입니다.");
+        // 2. 이미 예매한 사용자 조회
+        Set<String> reservedUserIds = findReservedUserIds(ticketId, userIds);
+
+        // 3. 요청 순서대로 중복/재고 판정
+        int remainingStock = ticket.getStock();
+        List<ReservationOutcome> outcomes = new ArrayList<>(userIds.size());
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            String userId = userIds.get(i);
+            if (reservedUserIds.contains(userId)) {
+                outcomes.add(ReservationOutcome.DUPLICATE);
+            } else if (remainingStock <= 0) {
+                outcomes.add(ReservationOutcome.SOLD_OUT);
+            } else {
+                reservedUserIds.add(userId);
+                remainingStock--;
+                reservations.add(new Reservation(ticketId, userId, requestIds.get(i)));
+                outcomes.add(ReservationOutcome.RESERVED);
+            }
         }
 
-        // 3. 재고 확인
-        if (!ticket.hasStock()) {
-            log.warn("[Kafka Consumer] 재고 부족 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+        if (remainingStock <= 0) {
+            eventPublisher.publishEvent(new TicketSoldOutEvent(ticketId));
+        }
+
+        if (reservations.isEmpty()) {
+            return outcomes;
+        }
+
+        // 10ms 지연 (실제 비즈니스 로직 시뮬레이션, 배치당 1회)
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        // 4. 재고 일괄 차감
+        int updated = ticketRepository.decreaseStock(ticketId, reservations.size());
+        if (updated == 0) {
             throw new IllegalStateException("재고가 부족합니다.");
         }
 
+        // 5. 구매자 필터 기록 (커밋 전에 기록해야 롤백되어도 누락 없이 오탐만 남음)
+        ticketBuyerFilterRepository.addAll(ticketId, reservations.stream().map(Reservation::getUserId).toList());
+
+        // 6. 예약 정보 일괄 저장
+        reservationRepository.persistAll(reservations);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
+
+        log.info("[Kafka Batch Consumer] 예약 완료 - 티켓 ID: {}, 요청: {}건, 예약: {}건, 남은 재고: {}",
+                ticketId, userIds.size(), reservations.size(), remainingStock);
+        return outcomes;
+    }
+
+    /**
+     * 호출자가 이미 중복/재고 판정을 마친 예매를 DB에 반영 (Partition-Owned Consumer용)
+     * 재고 정합성은 조건부 UPDATE로 한 번 더 보장
+     */
+    @Transactional
+    public void confirmReservation(Long ticketId, String userId) {
         // 10ms 지연 (실제 비즈니스 로직 시뮬레이션)
         try {
             Thread.sleep(10);
@@ -43,15 +156,46 @@ public class TicketService {
             throw new RuntimeException(e);
         }
 
-        // 4. 재고 차감
-        ticket.decreaseStock();
-        ticketRepository.save(ticket);
+        // 1. 예약 정보 저장 (메모리 상태와 어긋난 경우에도 DB 유니크 인덱스로 중복 차단)
+        if (reservationRepository.insertIfAbsent(ticketId, userId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("이미 예매한 티켓입니다.");
+        }
 
-        // 5. 예약 정보 저장
-        Reservation reservation = new Reservation(ticketId, userId);
-        reservationRepository.save(reservation);
+        // 2. 재고 차감
+        int updated = ticketRepository.decreaseStock(ticketId, 1);
+        if (updated == 0) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+        ticketBuyerFilterRepository.discard(ticketId);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketId));
 
-        log.info("[Kafka Consumer] 예약 완료 - 티켓 ID: {}, 사용자: {}, 남은 재고: {}", ticketId, userId, ticket.getStock());
+        log.info("[Partition-Owned Consumer] 예약 완료 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
+    }
+
+    /**
+     * 요청 사용자 중 이미 예매한 사용자 조회
+     *
+     * - Bloom 필터가 "확실히 없음"으로 판정한 사용자는 DB를 조회하지 않음 (대부분의 신규 구매자)
+     * - 필터가 없으면 DB의 예약 목록으로 먼저 시드 (티켓 락 안에서 호출되므로 한 번만 수행됨)
+     */
+    private Set<String> findReservedUserIds(Long ticketId, List<String> userIds) {
+        if (!ticketBuyerFilterRepository.isInitialized(ticketId)) {
+            ticketBuyerFilterRepository.initialize(ticketId, reservationRepository.findUserIdsByTicketId(ticketId));
+        }
+
+        List<String> candidates = ticketBuyerFilterRepository.filterPossiblyReserved(ticketId, new LinkedHashSet<>(userIds));
+        if (candidates.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<String> reservedUserIds = new HashSet<>(reservationRepository.findReservedUserIds(ticketId, candidates));
+        ticketBuyerFilterRepository.recordFalsePositives(candidates.size() - reservedUserIds.size());
+        return reservedUserIds;
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> getReservedUserIds(Long ticketId) {
+        return reservationRepository.findUserIdsByTicketId(ticketId);
     }
 
     @Transactional(readOnly = true)
@@ -60,6 +204,24 @@ public class TicketService {
                 .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다."));
     }
 
+    /**
+     * 티켓 조회 화면용 정보 (재고 + 예약 건수)
+     *
+     * - 예약 건수는 티켓 행에 함께 관리되는 reservedCount를 사용 (예약 테이블 COUNT 없음)
+     * - 조회 결과는 TicketViewCache에 짧게 보관되고, 예약이 커밋되면 무효화됨
+     */
+    public TicketResponse getTicketView(Long ticketId) {
+        return ticketViewCache.get(ticketId, id -> {
+            Ticket ticket = getTicket(id);
+            return new TicketResponse(
+                    ticket.getId(),
+                    ticket.getName(),
+                    ticket.getStock(),
+                    ticket.getReservedCount().longValue()
+            );
+        });
+    }
+
     @Transactional(readOnly = true)
     public long getReservationCount(Long ticketId) {
         return reservationRepository.countByTicketId(ticketId);
@@ -0,0 +1,6 @@
+package com.ticket.lv4kafka.application;
+
+/**
+ * 트랜잭션 안에서 티켓 재고를 모두 소진했음을 알리는 이벤트 (매진 전파용)
+ */
+public record TicketSoldOutEvent(Long ticketId) {}
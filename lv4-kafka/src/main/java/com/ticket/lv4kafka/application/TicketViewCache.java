@@ -0,0 +1,84 @@
+package com.ticket.lv4kafka.application;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ticket.lv4kafka.application.dto.TicketResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * 티켓 조회 결과 Near-Cache
+ *
+ * - 크기 제한(10,000개) + 짧은 TTL(5초)로 메모리와 오래된 값 노출 시간을 함께 제한
+ * - 같은 티켓을 동시에 조회하면 DB 조회는 한 번만 수행 (Caffeine이 로딩을 합쳐줌)
+ * - 로딩은 캐시 내부 락(synchronized) 밖의 실행기에서 수행하여 가상 스레드 고정(pinning)을 피함
+ *   (가상 스레드 모드에서는 가상 스레드, 그 외에는 전용 플랫폼 스레드 풀 - TicketViewCacheConfig)
+ * - 예약 트랜잭션이 커밋되면 로컬 캐시를 무효화하고, Redis Topic으로 다른 인스턴스에도 전파
+ */
+@Slf4j
+@Component
+public class TicketViewCache {
+
+    private static final String INVALIDATION_TOPIC = "ticket-view-invalidation";
+
+    private final RedissonClient redissonClient;
+
+    private final AsyncCache<Long, TicketResponse> cache;
+
+    public TicketViewCache(RedissonClient redissonClient,
+                           @Qualifier("ticketViewCacheExecutor") ExecutorService executor) {
+        this.redissonClient = redissonClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(5))
+                .executor(executor)
+                .buildAsync();
+    }
+
+    @PostConstruct
+    public void listenInvalidations() {
+        invalidationTopic().addListener(String.class, (channel, ticketId) -> cache.synchronous().invalidate(Long.valueOf(ticketId)));
+    }
+
+    public TicketResponse get(Long ticketId, Function<Long, TicketResponse> loader) {
+        try {
+            return cache.get(ticketId, loader).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 커밋 이후에 무효화해야 롤백된 변경이나 커밋 전 값이 다시 캐시되지 않음
+     * (트랜잭션 밖에서 발행된 이벤트는 바로 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        cache.synchronous().invalidate(event.ticketId());
+        try {
+            invalidationTopic().publish(String.valueOf(event.ticketId()));
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 인스턴스는 TTL 이후 갱신됨
+            log.warn("[Ticket View Cache] 무효화 전파 실패 - 티켓 ID: {}, 에러: {}", event.ticketId(), e.getMessage());
+        }
+    }
+
+    private RTopic invalidationTopic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+    }
+}
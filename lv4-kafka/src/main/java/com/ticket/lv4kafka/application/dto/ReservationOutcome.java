@@ -0,0 +1,16 @@
+package com.ticket.lv4kafka.application.dto;
+
+/**
+ * 예매 요청 한 건의 처리 결과
+ */
+public enum ReservationOutcome {
+    PENDING,    // 아직 처리되지 않음
+    RESERVED,
+    DUPLICATE,
+    SOLD_OUT,
+    FAILED;     // 처리 중 오류 발생
+
+    public boolean isCompleted() {
+        return this != PENDING;
+    }
+}
@@ -13,4 +13,5 @@ import lombok.NoArgsConstructor;
 public class ReservationRequest {
     private Long ticketId;
     private String userId;
+    private String requestId; // 처리 결과 조회/통지용 요청 ID
 }
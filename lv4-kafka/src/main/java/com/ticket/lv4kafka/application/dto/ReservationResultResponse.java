@@ -0,0 +1,6 @@
+package com.ticket.lv4kafka.application.dto;
+
+public record ReservationResultResponse(
+        String requestId,
+        ReservationOutcome status
+) {}
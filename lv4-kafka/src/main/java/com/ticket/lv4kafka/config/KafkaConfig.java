@@ -1,6 +1,9 @@
 package com.ticket.lv4kafka.config;
 
 import com.ticket.lv4kafka.application.dto.ReservationRequest;
+import com.ticket.lv4kafka.infrastructure.ConsumerOffsetRepository;
+import com.ticket.lv4kafka.infrastructure.ReservationRequestDeserializer;
+import com.ticket.lv4kafka.infrastructure.ReservationRequestSerializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -8,10 +11,13 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.retrytopic.RetryTopicSchedulerWrapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,21 +25,42 @@ import java.util.Map;
 @Configuration
 public class KafkaConfig {
 
+    private static final long EXACTLY_ONCE_RETRY_INITIAL_INTERVAL_MS = 500;
+    private static final long EXACTLY_ONCE_RETRY_MAX_INTERVAL_MS = 10_000;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${spring.kafka.producer.properties.linger.ms:5}")
+    private int lingerMs;
+
+    @Value("${spring.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     /**
      * Kafka Producer 설정
+     *
+     * - 값은 바이너리 포맷으로 직렬화 (JSON 텍스트와 타입 헤더 없음)
+     * - linger.ms 동안 모은 레코드를 배치 단위로 압축(lz4)하여 전송
      */
     @Bean
     public ProducerFactory<String, ReservationRequest> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ReservationRequestSerializer.class);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
         return new DefaultKafkaProducerFactory<>(config);
     }
 
@@ -50,10 +77,10 @@ public class KafkaConfig {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        // 오프셋은 리스너 컨테이너가 커밋 (자동 커밋을 쓰면 처리 전에 커밋되어 장애 시 메시지가 유실될 수 있음)
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ReservationRequest.class.getName());
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ReservationRequestDeserializer.class);
         return new DefaultKafkaConsumerFactory<>(config);
     }
 
@@ -62,6 +89,67 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, ReservationRequest> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        applyListenerTaskExecutor(factory);
         return factory;
     }
+
+    /**
+     * Batch Listener 설정
+     * poll 한 번에 가져온 레코드를 List로 전달
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ReservationRequest> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ReservationRequest> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        applyListenerTaskExecutor(factory);
+        return factory;
+    }
+
+    /**
+     * 수동 커밋 Batch Listener 설정 (Exactly-Once Consumer용)
+     * 리스너가 DB 커밋을 마친 뒤 Acknowledgment로 poll당 한 번 오프셋 커밋
+     * 처리 실패 시 기본 에러 핸들러처럼 재시도 후 건너뛰지 않고, 백오프 후 DB 처리 위치로 되돌려 다시 처리
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ReservationRequest> manualAckBatchKafkaListenerContainerFactory(
+            ConsumerOffsetRepository consumerOffsetRepository) {
+        ConcurrentKafkaListenerContainerFactory<String, ReservationRequest> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(EXACTLY_ONCE_RETRY_INITIAL_INTERVAL_MS, 2.0);
+        backOff.setMaxInterval(EXACTLY_ONCE_RETRY_MAX_INTERVAL_MS);
+        factory.setCommonErrorHandler(new StoredOffsetSeekingErrorHandler(consumerOffsetRepository, groupId, backOff));
+        applyListenerTaskExecutor(factory);
+        return factory;
+    }
+
+    /**
+     * 재시도 토픽의 지연 처리용 스케줄러
+     * (재시도 시각이 되지 않은 파티션을 멈췄다가 시각이 되면 다시 시작)
+     */
+    @Bean
+    public RetryTopicSchedulerWrapper retryTopicSchedulerWrapper() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("kafka-retry-");
+        scheduler.initialize();
+        return new RetryTopicSchedulerWrapper(scheduler);
+    }
+
+    /**
+     * 가상 스레드 모드에서는 컨슈머 스레드도 가상 스레드로 실행
+     * (직접 만든 팩토리에는 Spring Boot의 가상 스레드 자동 설정이 적용되지 않음)
+     */
+    private void applyListenerTaskExecutor(ConcurrentKafkaListenerContainerFactory<String, ReservationRequest> factory) {
+        if (!virtualThreadsEnabled) {
+            return;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-listener-");
+        executor.setVirtualThreads(true);
+        factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
 }
@@ -0,0 +1,95 @@
+package com.ticket.lv4kafka.config;
+
+import com.ticket.lv4kafka.domain.ConsumerOffset;
+import com.ticket.lv4kafka.infrastructure.ConsumerOffsetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ListenerUtils;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exactly-Once Consumer용 에러 핸들러
+ *
+ * - 배치 처리가 실패하면 대기(백오프) 후 파티션을 DB에 기록된 처리 위치(consumer_offsets)로 되돌림
+ * - 재시도 횟수 제한과 recover(건너뛰기)가 없음: 건너뛴 레코드는 DB 위치가 다음 성공 시 덮어써져 영구 유실되므로
+ *   처리될 때까지 같은 위치에서 다시 시도 (실패가 계속되면 해당 파티션은 멈춤)
+ * - 같은 위치에서 연속으로 실패하면 대기 시간이 늘어나고, 다른 위치에서 실패하면 처음부터 다시 계산
+ */
+@Slf4j
+public class StoredOffsetSeekingErrorHandler implements CommonErrorHandler {
+
+    private final ConsumerOffsetRepository consumerOffsetRepository;
+    private final String groupId;
+    private final BackOff backOff;
+
+    // 컨슈머 스레드별 마지막 실패 위치와 백오프 진행 상태
+    private final ThreadLocal<FailedBatch> lastFailure = new ThreadLocal<>();
+
+    public StoredOffsetSeekingErrorHandler(ConsumerOffsetRepository consumerOffsetRepository, String groupId, BackOff backOff) {
+        this.consumerOffsetRepository = consumerOffsetRepository;
+        this.groupId = groupId;
+        this.backOff = backOff;
+    }
+
+    @Override
+    public void handleBatch(Exception thrownException, ConsumerRecords<?, ?> data, Consumer<?, ?> consumer,
+                            MessageListenerContainer container, Runnable invokeListener) {
+        Map<TopicPartition, Long> firstOffsets = new LinkedHashMap<>();
+        data.partitions().forEach(partition -> firstOffsets.put(partition, data.records(partition).get(0).offset()));
+
+        FailedBatch failure = lastFailure.get();
+        if (failure == null || !failure.firstOffsets().equals(firstOffsets)) {
+            failure = new FailedBatch(firstOffsets, backOff.start());
+            lastFailure.set(failure);
+        }
+        long interval = failure.execution().nextBackOff();
+        log.error("[Exactly-Once Consumer] 배치 처리 실패, {}ms 후 DB 처리 위치부터 재시도 - {}건, 에러: {}",
+                interval, data.count(), thrownException.getMessage());
+
+        try {
+            ListenerUtils.stoppableSleep(container, Math.max(interval, 0));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 대기 중 컨테이너가 멈춰도 되돌리기는 수행 (커밋되지 않은 레코드를 다음 poll에서 건너뛰지 않도록)
+        firstOffsets.forEach((partition, firstOffset) -> consumer.seek(partition, storedOffset(partition, firstOffset)));
+    }
+
+    /**
+     * Kafka 오프셋은 리스너가 DB 커밋 후에만 커밋하므로 실패한 배치를 커밋하지 않음
+     */
+    @Override
+    public boolean isAckAfterHandle() {
+        return false;
+    }
+
+    @Override
+    public boolean seeksAfterHandling() {
+        return true;
+    }
+
+    /**
+     * DB에 기록된 처리 위치 (조회할 수 없으면 실패한 배치의 첫 레코드 위치)
+     */
+    private long storedOffset(TopicPartition partition, long firstOffset) {
+        try {
+            return consumerOffsetRepository.findById(ConsumerOffset.idOf(groupId, partition.topic(), partition.partition()))
+                    .map(ConsumerOffset::getNextOffset)
+                    .orElse(firstOffset);
+        } catch (Exception e) {
+            log.error("[Exactly-Once Consumer] DB 처리 위치 조회 실패, 배치 첫 위치로 이동 - {}, 에러: {}", partition, e.getMessage());
+            return firstOffset;
+        }
+    }
+
+    private record FailedBatch(Map<TopicPartition, Long> firstOffsets, BackOffExecution execution) {}
+}
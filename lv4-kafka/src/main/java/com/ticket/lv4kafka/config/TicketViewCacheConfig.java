@@ -0,0 +1,37 @@
+package com.ticket.lv4kafka.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 티켓 조회 Near-Cache의 로딩 실행기
+ *
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true): 로딩마다 가상 스레드 사용
+ * - 플랫폼 스레드 모드: 로딩 전용 고정 크기 플랫폼 스레드 풀 사용
+ *   (ForkJoinPool.commonPool은 병렬 스트림 등과 공유되므로 DB 조회로 막히면 다른 작업까지 지연됨)
+ * - 컨텍스트 종료 시 실행기도 함께 종료 (진행 중인 로딩이 끝날 때까지 대기)
+ */
+@Configuration
+public class TicketViewCacheConfig {
+
+    private static final String EXECUTOR_NAME = "ticketViewCacheExecutor";
+
+    @Bean(name = EXECUTOR_NAME, destroyMethod = "close")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public ExecutorService virtualThreadTicketViewCacheExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean(name = EXECUTOR_NAME, destroyMethod = "close")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+    public ExecutorService platformThreadTicketViewCacheExecutor(
+            @Value("${ticket.view-cache.loader-threads:4}") int loaderThreads) {
+        return Executors.newFixedThreadPool(loaderThreads,
+                Thread.ofPlatform().name("ticket-view-loader-", 0).daemon(true).factory());
+    }
+}
@@ -0,0 +1,38 @@
+package com.ticket.lv4kafka.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컨슈머 그룹의 파티션별 처리 위치 (예약과 같은 트랜잭션에서 갱신)
+ *
+ * - nextOffset 미만의 레코드는 이미 DB에 반영된 것으로 봄
+ * - Kafka에 커밋된 오프셋보다 이 값이 우선 (파티션 할당 시 이 위치로 이동)
+ */
+@Entity
+@Table(name = "consumer_offsets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ConsumerOffset {
+
+    @Id
+    private String id; // 그룹:토픽:파티션
+
+    @Column(nullable = false)
+    private String consumerGroup;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(nullable = false)
+    private Integer partitionNumber;
+
+    @Column(nullable = false)
+    private Long nextOffset;
+
+    public static String idOf(String consumerGroup, String topic, int partition) {
+        return consumerGroup + ":" + topic + ":" + partition;
+    }
+}
@@ -8,13 +8,20 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(
+        name = "reservations",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_reservations_ticket_user", columnNames = {"ticket_id", "user_id"}),
+                @UniqueConstraint(name = "uk_reservations_request_id", columnNames = {"request_id"})
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq_generator")
+    @SequenceGenerator(name = "reservation_seq_generator", sequenceName = "reservations_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -26,9 +33,16 @@ public class Reservation {
     @Column(nullable = false)
     private LocalDateTime reservedAt;
 
+    private String requestId; // 멱등성 키 (Kafka 예매 요청 ID, 같은 요청이 다시 처리되어도 한 번만 반영)
+
     public Reservation(Long ticketId, String userId) {
+        this(ticketId, userId, null);
+    }
+
+    public Reservation(Long ticketId, String userId, String requestId) {
         this.ticketId = ticketId;
         this.userId = userId;
+        this.requestId = requestId;
         this.reservedAt = LocalDateTime.now();
     }
 }
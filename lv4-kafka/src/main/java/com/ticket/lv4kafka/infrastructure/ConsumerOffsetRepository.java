@@ -0,0 +1,38 @@
+package com.ticket.lv4kafka.infrastructure;
+
+import com.ticket.lv4kafka.domain.ConsumerOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ConsumerOffsetRepository extends JpaRepository<ConsumerOffset, String> {
+
+    /**
+     * 처음 처리하는 파티션이면 0부터 시작하는 행 생성 (여러 컨슈머가 동시에 호출해도 한 행만 생김)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO consumer_offsets (id, consumer_group, topic, partition_number, next_offset) " +
+            "VALUES (:id, :consumerGroup, :topic, :partition, 0) " +
+            "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("consumerGroup") String consumerGroup,
+                       @Param("topic") String topic,
+                       @Param("partition") int partition);
+
+    /**
+     * SELECT ... FOR UPDATE
+     * 리밸런싱 직후 이전 소유자가 같은 파티션을 아직 처리 중이면 그 트랜잭션이 끝날 때까지 대기
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM ConsumerOffset o WHERE o.id = :id")
+    Optional<ConsumerOffset> findByIdForUpdate(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE ConsumerOffset o SET o.nextOffset = :nextOffset WHERE o.id = :id AND o.nextOffset < :nextOffset")
+    int advance(@Param("id") String id, @Param("nextOffset") long nextOffset);
+}
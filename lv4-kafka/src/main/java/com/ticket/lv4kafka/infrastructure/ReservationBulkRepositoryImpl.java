@@ -0,0 +1,35 @@
+package com.ticket.lv4kafka.infrastructure;
+
+import com.ticket.lv4kafka.domain.Reservation;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 시퀀스(pooled-lo) 기반 ID를 사용하므로 Hibernate가 INSERT를 JDBC 배치로 묶어서 전송
+ * batch_size 단위로 flush 후 저장한 엔티티만 detach 하여 영속성 컨텍스트가 커지지 않도록 유지
+ */
+public class ReservationBulkRepositoryImpl implements ReservationBulkRepository {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public ReservationBulkRepositoryImpl(EntityManager entityManager,
+                                         @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public void persistAll(List<Reservation> reservations) {
+        for (int from = 0; from < reservations.size(); from += batchSize) {
+            List<Reservation> chunk = reservations.subList(from, Math.min(from + batchSize, reservations.size()));
+            chunk.forEach(entityManager::persist);
+            entityManager.flush();
+            chunk.forEach(entityManager::detach);
+        }
+    }
+}
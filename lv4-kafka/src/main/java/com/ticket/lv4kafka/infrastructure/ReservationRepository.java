@@ -2,8 +2,41 @@ package com.ticket.lv4kafka.infrastructure;
 
 import com.ticket.lv4kafka.domain.Reservation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationBulkRepository {
     long countByTicketId(Long ticketId);
-    boolean existsByTicketIdAndUserId(Long ticketId, String userId);
+
+    /**
+     * 중복이 아닐 때만 예약 저장 (ticket_id, user_id 유니크 인덱스 기준)
+     * INSERT ... ON CONFLICT (ticket_id, user_id) DO NOTHING
+     *
+     * - 사전 조회(exists) 없이 INSERT 한 번으로 중복 여부 판정, 락 없이도 정확함
+     * - 같은 사용자의 동시 INSERT는 인덱스에서 먼저 들어온 트랜잭션이 끝날 때까지 대기 후 판정됨
+     * - ID는 시퀀스에서 직접 할당 (pooled-lo 최적화라 Hibernate가 할당하는 ID 구간과 겹치지 않음)
+     *
+     * @return 저장된 행 수 (0이면 이미 예매한 사용자)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO reservations (id, ticket_id, user_id, reserved_at) " +
+            "VALUES (nextval('reservations_seq'), :ticketId, :userId, :reservedAt) " +
+            "ON CONFLICT (ticket_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("ticketId") Long ticketId,
+                       @Param("userId") String userId,
+                       @Param("reservedAt") LocalDateTime reservedAt);
+
+    @Query("SELECT r.userId FROM Reservation r WHERE r.ticketId = :ticketId AND r.userId IN :userIds")
+    List<String> findReservedUserIds(@Param("ticketId") Long ticketId, @Param("userIds") Collection<String> userIds);
+
+    @Query("SELECT r.requestId FROM Reservation r WHERE r.requestId IN :requestIds")
+    List<String> findExistingRequestIds(@Param("requestIds") Collection<String> requestIds);
+
+    @Query("SELECT r.userId FROM Reservation r WHERE r.ticketId = :ticketId")
+    List<String> findUserIdsByTicketId(@Param("ticketId") Long ticketId);
 }
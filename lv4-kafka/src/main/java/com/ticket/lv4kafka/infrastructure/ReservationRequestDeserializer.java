@@ -0,0 +1,93 @@
+package com.ticket.lv4kafka.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.lv4kafka.application.dto.ReservationRequest;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ReservationRequestSerializer 포맷 역직렬화
+ *
+ * - 리플렉션 없이 필드를 순서대로 읽음
+ * - 첫 바이트가 '{'이면 전환 전에 JSON으로 발행된 레코드로 보고 JSON으로 읽음 (배포 중 토픽에 남은 레코드 처리)
+ */
+public class ReservationRequestDeserializer implements Deserializer<ReservationRequest> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public ReservationRequest deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 0) {
+            throw new SerializationException("빈 레코드는 역직렬화할 수 없습니다.");
+        }
+        if (data[0] == '{') {
+            return readJson(data);
+        }
+        if (data[0] != ReservationRequestSerializer.VERSION) {
+            throw new SerializationException("지원하지 않는 예매 요청 포맷 버전입니다: " + data[0]);
+        }
+
+        try {
+            Reader reader = new Reader(data);
+            Long ticketId = reader.readVarLong();
+            String userId = reader.readString();
+            String requestId = reader.readString();
+            return new ReservationRequest(ticketId, userId, requestId);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new SerializationException("예매 요청 레코드가 잘려 있습니다.", e);
+        }
+    }
+
+    private ReservationRequest readJson(byte[] data) {
+        try {
+            return OBJECT_MAPPER.readValue(data, ReservationRequest.class);
+        } catch (IOException e) {
+            throw new SerializationException("JSON 예매 요청을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 버전 바이트 다음부터 순서대로 읽음
+     */
+    private static class Reader {
+
+        private final byte[] data;
+        private int position = 1;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("varint가 너무 깁니다.");
+        }
+
+        String readString() {
+            long encodedLength = readVarLong();
+            if (encodedLength == 0) {
+                return null;
+            }
+            int length = Math.toIntExact(encodedLength - 1);
+            if (length > data.length - position) {
+                throw new SerializationException("예매 요청 레코드가 잘려 있습니다.");
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
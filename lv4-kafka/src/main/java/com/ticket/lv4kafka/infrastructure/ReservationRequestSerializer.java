@@ -0,0 +1,100 @@
+package com.ticket.lv4kafka.infrastructure;
+
+import com.ticket.lv4kafka.application.dto.ReservationRequest;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ReservationRequest 바이너리 직렬화 (JSON 대비 레코드 크기와 역직렬화 비용 감소)
+ *
+ * 포맷 (버전 1):
+ * [버전 1바이트][ticketId varint][userId 길이 varint][userId UTF-8][requestId 길이 varint][requestId UTF-8]
+ * - 문자열 길이는 null을 표현하기 위해 (바이트 수 + 1)로 기록 (0이면 null)
+ * - 타입 헤더(__TypeId__)를 붙이지 않음
+ * - 스레드별 버퍼에 기록한 뒤 실제 길이만큼만 복사 (ASCII 문자열은 중간 byte[] 할당 없음)
+ */
+public class ReservationRequestSerializer implements Serializer<ReservationRequest> {
+
+    static final byte VERSION = 1;
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+    @Override
+    public byte[] serialize(String topic, ReservationRequest data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.getTicketId() == null) {
+            throw new SerializationException("티켓 ID가 없는 예매 요청은 직렬화할 수 없습니다.");
+        }
+
+        String userId = data.getUserId();
+        String requestId = data.getRequestId();
+        // 버전(1) + ticketId(최대 10) + 문자열별 길이(최대 5) + 문자열(문자당 최대 3바이트)
+        int maxSize = 1 + 10 + maxStringSize(userId) + maxStringSize(requestId);
+        byte[] buffer = BUFFER.get();
+        if (buffer.length < maxSize) {
+            buffer = new byte[Math.max(maxSize, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+
+        int position = 0;
+        buffer[position++] = VERSION;
+        position = writeVarLong(buffer, position, data.getTicketId());
+        position = writeString(buffer, position, userId);
+        position = writeString(buffer, position, requestId);
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private static int maxStringSize(String value) {
+        return 5 + (value == null ? 0 : value.length() * 3);
+    }
+
+    private static int writeString(byte[] buffer, int position, String value) {
+        if (value == null) {
+            return writeVarLong(buffer, position, 0);
+        }
+
+        if (isAscii(value)) {
+            position = writeVarLong(buffer, position, value.length() + 1L);
+            for (int i = 0; i < value.length(); i++) {
+                buffer[position++] = (byte) value.charAt(i);
+            }
+            return position;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        position = writeVarLong(buffer, position, bytes.length + 1L);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 7비트씩 나누어 기록 (상위 비트 1이면 다음 바이트가 이어짐, ID 100만 이하는 3바이트 이내)
+     */
+    private static int writeVarLong(byte[] buffer, int position, long value) {
+        if (value < 0) {
+            throw new SerializationException("음수는 직렬화할 수 없습니다: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+}
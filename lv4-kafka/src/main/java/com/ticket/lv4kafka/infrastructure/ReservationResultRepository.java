@@ -0,0 +1,33 @@
+package com.ticket.lv4kafka.infrastructure;
+
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * 예매 요청 ID별 처리 결과를 Redis에 보관
+ * (요청을 받은 인스턴스와 처리한 인스턴스가 달라도 조회 가능)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationResultRepository {
+
+    private static final String RESULT_KEY_PREFIX = "RESERVATION_RESULT:";
+    private static final Duration RESULT_TTL = Duration.ofMinutes(10);
+
+    private final RedissonClient redissonClient;
+
+    public void save(String requestId, ReservationOutcome outcome) {
+        redissonClient.<String>getBucket(RESULT_KEY_PREFIX + requestId, StringCodec.INSTANCE)
+                .set(outcome.name(), RESULT_TTL);
+    }
+
+    public ReservationOutcome find(String requestId) {
+        String outcome = redissonClient.<String>getBucket(RESULT_KEY_PREFIX + requestId, StringCodec.INSTANCE).get();
+        return outcome == null ? ReservationOutcome.PENDING : ReservationOutcome.valueOf(outcome);
+    }
+}
@@ -0,0 +1,263 @@
+package com.ticket.lv4kafka.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 티켓별 구매자 Bloom 필터 (Redis 비트맵)
+ *
+ * - TICKET_BUYER_FILTER:{ticketId} : 구매자 ID를 k개의 비트 위치로 기록한 비트맵
+ * - "확실히 없음"이면 DB 조회 없이 신규 구매자로 판정, "있을 수도 있음"만 DB에서 정확히 확인
+ * - 비트 위치는 애플리케이션에서 계산하고, 조회/기록은 Lua 스크립트로 요청 묶음 단위 왕복 1회
+ * - Redis에 있으므로 모든 인스턴스가 같은 필터를 공유
+ *
+ * 기록은 DB 커밋 전에 수행하므로 롤백되면 오탐(있을 수도 있음)만 늘어날 뿐 누락은 생기지 않음
+ * 필터를 읽지 않는 경로(단건/Partition-Owned)는 구매자를 기록하지 않고 필터를 폐기하며,
+ * 필터를 읽는 경로(Batch/Exactly-Once)가 다음에 사용할 때 DB 예약 목록으로 다시 시드함
+ */
+@Slf4j
+@Repository
+public class TicketBuyerFilterRepository {
+
+    private static final String FILTER_KEY_PREFIX = "TICKET_BUYER_FILTER:";
+
+    /**
+     * ARGV[1]: 해시 함수 개수(k), ARGV[2..]: 사용자별 비트 위치 k개씩
+     * 반환값: 사용자별 1(있을 수도 있음) / 0(확실히 없음), 필터가 없으면 {-1}
+     */
+    private static final String CONTAINS_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {-1}
+            end
+            local k = tonumber(ARGV[1])
+            local users = (#ARGV - 1) / k
+            local result = {}
+            for i = 0, users - 1 do
+                local present = 1
+                for j = 1, k do
+                    if redis.call('GETBIT', KEYS[1], ARGV[1 + i * k + j]) == 0 then
+                        present = 0
+                        break
+                    end
+                end
+                result[i + 1] = present
+            end
+            return result
+            """;
+
+    /**
+     * ARGV[1]: 필터가 없을 때 새로 만들지 여부, ARGV[2]: 비트맵 크기(m), ARGV[3..]: 기록할 비트 위치
+     * 만들 때는 m번 비트를 0으로 설정해 비트맵 전체를 한 번에 할당 (필터 존재 여부 표시도 겸함)
+     * 반환값: 1 기록함, 0 필터가 없어 기록하지 않음
+     */
+    private static final String ADD_SCRIPT = """
+            if ARGV[1] == '0' and redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('SETBIT', KEYS[1], ARGV[2], 0)
+            for i = 3, #ARGV do
+                redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+            end
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+    private final long bitSize;
+    private final int hashCount;
+    private final Set<Long> initializedTickets = ConcurrentHashMap.newKeySet();
+    private final Set<Long> discardedTickets = ConcurrentHashMap.newKeySet();
+
+    private final Counter checkCounter;
+    private final Counter positiveCounter;
+    private final Counter falsePositiveCounter;
+
+    public TicketBuyerFilterRepository(RedissonClient redissonClient,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${ticket.buyer-filter.expected-insertions:1000000}") long expectedInsertions,
+                                       @Value("${ticket.buyer-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.redissonClient = redissonClient;
+        // m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+        this.bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+
+        this.checkCounter = Counter.builder("ticket.buyer_filter.checks")
+                .description("Bloom 필터로 중복 여부를 확인한 사용자 수")
+                .register(meterRegistry);
+        this.positiveCounter = Counter.builder("ticket.buyer_filter.positives")
+                .description("Bloom 필터가 '있을 수도 있음'으로 판정해 DB 확인으로 넘긴 사용자 수")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("ticket.buyer_filter.false_positives")
+                .description("DB 확인 결과 예매 이력이 없었던 '있을 수도 있음' 판정 수")
+                .register(meterRegistry);
+        Gauge.builder("ticket.buyer_filter.false_positive_rate", this, TicketBuyerFilterRepository::observedFalsePositiveRate)
+                .description("실제 신규 구매자 중 '있을 수도 있음'으로 판정된 비율")
+                .register(meterRegistry);
+        Gauge.builder("ticket.buyer_filter.memory", this, filter -> (double) filter.initializedTickets.size() * filter.bytesPerFilter())
+                .description("이 인스턴스가 사용 중인 티켓 필터들의 Redis 비트맵 크기 합")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("[Buyer Filter] 비트맵 크기: {}bit ({}KB), 해시 함수: {}개", bitSize, bytesPerFilter() / 1024, hashCount);
+    }
+
+    /**
+     * 필터가 Redis에 있는지 확인 (한 번 확인된 티켓은 로컬에서 바로 판정)
+     */
+    public boolean isInitialized(Long ticketId) {
+        if (initializedTickets.contains(ticketId)) {
+            return true;
+        }
+        if (redissonClient.getBucket(filterKey(ticketId), StringCodec.INSTANCE).isExists()) {
+            initializedTickets.add(ticketId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 필터를 만들고 기존 구매자를 기록 (DB의 예약 목록으로 시드)
+     */
+    public void initialize(Long ticketId, Collection<String> userIds) {
+        add(ticketId, userIds, true);
+        initializedTickets.add(ticketId);
+        discardedTickets.remove(ticketId);
+    }
+
+    /**
+     * 구매자 기록 (필터가 아직 없으면 건너뜀 - 나중에 만들 때 DB에서 시드되므로)
+     */
+    public void addAll(Long ticketId, Collection<String> userIds) {
+        add(ticketId, userIds, false);
+    }
+
+    /**
+     * "있을 수도 있는" 사용자만 골라냄 (나머지는 확실히 예매 이력 없음)
+     * 필터가 없으면 모든 사용자를 반환하여 DB에서 확인하도록 함
+     */
+    public List<String> filterPossiblyReserved(Long ticketId, Collection<String> userIds) {
+        List<String> candidates = new ArrayList<>(userIds);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<Object> args = new ArrayList<>(1 + candidates.size() * hashCount);
+        args.add(String.valueOf(hashCount));
+        candidates.forEach(userId -> appendPositions(args, userId));
+
+        List<Long> result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_ONLY,
+                CONTAINS_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.of(filterKey(ticketId)),
+                args.toArray()
+        );
+        if (result.size() == 1 && result.get(0) == -1L) {
+            initializedTickets.remove(ticketId);
+            return candidates;
+        }
+
+        List<String> possiblyReserved = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (result.get(i) == 1L) {
+                possiblyReserved.add(candidates.get(i));
+            }
+        }
+        checkCounter.increment(candidates.size());
+        positiveCounter.increment(possiblyReserved.size());
+        return possiblyReserved;
+    }
+
+    /**
+     * DB 확인 결과 실제로는 예매 이력이 없었던 건수 기록
+     */
+    public void recordFalsePositives(int count) {
+        falsePositiveCounter.increment(count);
+    }
+
+    public void delete(Long ticketId) {
+        redissonClient.getBucket(filterKey(ticketId), StringCodec.INSTANCE).delete();
+        initializedTickets.remove(ticketId);
+    }
+
+    /**
+     * 필터를 거치지 않고 예약을 기록한 티켓의 필터 폐기 (남겨두면 그 구매자를 "확실히 없음"으로 판정함)
+     * 컨슈머 모드는 인스턴스마다 하나이므로 이 인스턴스에서 티켓당 한 번만 삭제
+     */
+    public void discard(Long ticketId) {
+        if (discardedTickets.add(ticketId)) {
+            delete(ticketId);
+        }
+    }
+
+    private void add(Long ticketId, Collection<String> userIds, boolean create) {
+        List<Object> args = new ArrayList<>(2 + userIds.size() * hashCount);
+        args.add(create ? "1" : "0");
+        args.add(String.valueOf(bitSize));
+        userIds.forEach(userId -> appendPositions(args, userId));
+
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ADD_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(filterKey(ticketId)),
+                args.toArray()
+        );
+    }
+
+    /**
+     * 64비트 해시 두 개를 조합해 k개의 비트 위치 계산 (Kirsch-Mitzenmacher)
+     */
+    private void appendPositions(List<Object> args, String userId) {
+        long h1 = fmix64(fnv1a64(userId.getBytes(StandardCharsets.UTF_8)));
+        long h2 = fmix64(h1 + 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            args.add(String.valueOf(Math.floorMod(h1 + i * h2, bitSize)));
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveCounter.count();
+        double negatives = checkCounter.count() - positiveCounter.count() + falsePositives;
+        return negatives == 0 ? 0.0 : falsePositives / negatives;
+    }
+
+    private long bytesPerFilter() {
+        return bitSize / 8 + 1;
+    }
+
+    private String filterKey(Long ticketId) {
+        return FILTER_KEY_PREFIX + "{" + ticketId + "}";
+    }
+
+    private static long fnv1a64(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9a53fe9a7c5L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -1,13 +1,20 @@
 package com.ticket.lv4kafka.presentation;
 
+import com.ticket.lv4kafka.application.ReservationRejectedException;
+import com.ticket.lv4kafka.application.ReservationResultService;
+import com.ticket.lv4kafka.application.SoldOutTicketRegistry;
 import com.ticket.lv4kafka.application.TicketService;
+import com.ticket.lv4kafka.application.dto.ReservationAcceptedResponse;
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import com.ticket.lv4kafka.application.dto.ReservationResultResponse;
 import com.ticket.lv4kafka.application.dto.TicketResponse;
-import com.ticket.lv4kafka.domain.Ticket;
 import com.ticket.lv4kafka.application.ReservationProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * LV.4: Kafka 기반 비동기 예매 API
@@ -20,6 +27,8 @@ public class TicketController {
 
     private final TicketService ticketService;
     private final ReservationProducer reservationProducer;
+    private final ReservationResultService reservationResultService;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
 
     /**
      * LV.4: Kafka를 이용한 비동기 예매 요청
@@ -36,19 +45,47 @@ public class TicketController {
      *
      * @param ticketId 티켓 ID
      * @param userId 사용자 ID
-     * @return 예매 접수 완료 메시지
+     * @return 예매 접수 완료 메시지와 처리 결과 조회용 요청 ID
      */
     @PostMapping("/{ticketId}/reserve")
-    public ResponseEntity<String> reserveTicket(
+    public ResponseEntity<ReservationAcceptedResponse> reserveTicket(
             @PathVariable Long ticketId,
             @RequestParam String userId) {
 
         log.info("[API] 예매 요청 수신 - 티켓 ID: {}, 사용자: {}", ticketId, userId);
 
+        // 매진된 티켓은 Kafka에 발행하지 않고 바로 거절
+        if (soldOutTicketRegistry.isSoldOut(ticketId)) {
+            throw new ReservationRejectedException(ReservationOutcome.SOLD_OUT, "재고가 부족합니다.");
+        }
+
         // Kafka에 메시지를 발행하고 즉시 응답
-        reservationProducer.sendReservationRequest(ticketId, userId);
+        String requestId = reservationProducer.sendReservationRequest(ticketId, userId);
+
+        return ResponseEntity.ok(new ReservationAcceptedResponse(
+                requestId,
+                "예매 접수가 완료되었습니다. 처리 결과는 곧 알려드리겠습니다. (Kafka Async)"
+        ));
+    }
 
-        return ResponseEntity.ok("예매 접수가 완료되었습니다. 처리 결과는 곧 알려드리겠습니다. (Kafka Async)");
+    /**
+     * 예매 처리 결과 조회 (Redis 조회 1회, 처리 전이면 PENDING)
+     */
+    @GetMapping("/reservations/{requestId}")
+    public ResponseEntity<ReservationResultResponse> getReservationResult(@PathVariable String requestId) {
+        return ResponseEntity.ok(new ReservationResultResponse(
+                requestId,
+                reservationResultService.getOutcome(requestId)
+        ));
+    }
+
+    /**
+     * 예매 처리 결과 구독 (Server-Sent Events)
+     * Consumer가 처리를 마치면 reservation-result 이벤트 한 건을 받고 연결이 종료됨
+     */
+    @GetMapping(value = "/reservations/{requestId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeReservationResult(@PathVariable String requestId) {
+        return reservationResultService.subscribe(requestId);
     }
 
     /**
@@ -56,15 +93,7 @@ public class TicketController {
      */
     @GetMapping("/{ticketId}")
     public ResponseEntity<TicketResponse> getTicket(@PathVariable Long ticketId) {
-        Ticket ticket = ticketService.getTicket(ticketId);
-        long reservationCount = ticketService.getReservationCount(ticketId);
-
-        return ResponseEntity.ok(new TicketResponse(
-                ticket.getId(),
-                ticket.getName(),
-                ticket.getStock(),
-                reservationCount
-        ));
+        return ResponseEntity.ok(ticketService.getTicketView(ticketId));
     }
 
     @ExceptionHandler(IllegalStateException.class)
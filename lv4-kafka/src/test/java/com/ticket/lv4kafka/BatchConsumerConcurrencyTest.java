@@ -0,0 +1,110 @@
+package com.ticket.lv4kafka;
+
+import com.ticket.lv4kafka.application.ReservationProducer;
+import com.ticket.lv4kafka.application.TicketService;
+import com.ticket.lv4kafka.domain.Ticket;
+import com.ticket.lv4kafka.infrastructure.ReservationRepository;
+import com.ticket.lv4kafka.infrastructure.TicketBuyerFilterRepository;
+import com.ticket.lv4kafka.infrastructure.TicketRepository;
+import com.ticket.lv4kafka.application.SoldOutTicketRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * LV.4: Batch Consumer 모드 예매 처리 테스트
+ *
+ * 컨슈머 모드마다 컨텍스트가 따로 캐시되므로, 같은 컨슈머 그룹에 다른 모드의 컨슈머가 남지 않도록 테스트 후 컨텍스트 종료
+ */
+@SpringBootTest(properties = "ticket.consumer.mode=batch")
+@DirtiesContext
+class BatchConsumerConcurrencyTest {
+
+    @Autowired
+    private ReservationProducer reservationProducer;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TicketBuyerFilterRepository ticketBuyerFilterRepository;
+
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
+    private Long ticketId;
+    private static final int INITIAL_STOCK = 100;
+    private static final int CONCURRENT_USERS = 1000;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        ticketRepository.deleteAll();
+
+        Ticket ticket = new Ticket("테스트 콘서트 티켓", INITIAL_STOCK);
+        this.ticketId = ticketRepository.save(ticket).getId();
+        ticketBuyerFilterRepository.delete(ticketId);
+        soldOutTicketRegistry.markAvailable(ticketId);
+    }
+
+    @Test
+    @DisplayName("Kafka Batch Consumer - 100개 티켓을 1000명이 동시 예매 (중복 요청 포함)")
+    void testBatchConsumerReservation() throws InterruptedException {
+        // given
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+
+        // when: 같은 사용자가 두 번씩 요청하여 배치 안의 중복도 함께 검증
+        List<Thread> workers = IntStream.range(0, people)
+                .mapToObj(i -> new Thread(() -> {
+                    try {
+                        reservationProducer.sendReservationRequest(ticketId, "user-" + (i / 2));
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                }))
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        waitForReservationProcessing(ticketId, INITIAL_STOCK, 30000);
+
+        // then
+        int finalStock = ticketService.getTicket(ticketId).getStock();
+        long reservationCount = ticketService.getReservationCount(ticketId);
+
+        assertEquals(0, finalStock);
+        assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+    }
+
+    private void waitForReservationProcessing(Long ticketId, int expectedCount, long timeoutMs) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+
+        while (System.currentTimeMillis() - startTime < timeoutMs) {
+            long currentCount = ticketService.getReservationCount(ticketId);
+            int currentStock = ticketService.getTicket(ticketId).getStock();
+
+            if (currentCount >= expectedCount || currentStock == 0) {
+                return;
+            }
+
+            Thread.sleep(100);
+        }
+    }
+}
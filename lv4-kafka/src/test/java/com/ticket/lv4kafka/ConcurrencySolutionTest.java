@@ -2,14 +2,17 @@ package com.ticket.lv4kafka;
 
 import com.ticket.lv4kafka.domain.Ticket;
 import com.ticket.lv4kafka.infrastructure.ReservationRepository;
+import com.ticket.lv4kafka.infrastructure.TicketBuyerFilterRepository;
 import com.ticket.lv4kafka.infrastructure.TicketRepository;
 import com.ticket.lv4kafka.application.TicketService;
 import com.ticket.lv4kafka.application.ReservationProducer;
+import com.ticket.lv4kafka.application.SoldOutTicketRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -19,8 +22,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * LV.4: Kafka 기반 비동기 예매 처리 테스트
+ *
+ * 컨슈머 모드마다 컨텍스트가 따로 캐시되므로, 같은 컨슈머 그룹에 다른 모드의 컨슈머가 남지 않도록 테스트 후 컨텍스트 종료
  */
 @SpringBootTest
+@DirtiesContext
 class ConcurrencySolutionTest {
 
     @Autowired
@@ -35,6 +41,12 @@ class ConcurrencySolutionTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private TicketBuyerFilterRepository ticketBuyerFilterRepository;
+
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
     private Long ticketId;
     private static final int INITIAL_STOCK = 100;
     private static final int CONCURRENT_USERS = 1000;
@@ -46,6 +58,8 @@ class ConcurrencySolutionTest {
 
         Ticket ticket = new Ticket("테스트 콘서트 티켓", INITIAL_STOCK);
         this.ticketId = ticketRepository.save(ticket).getId();
+        ticketBuyerFilterRepository.delete(ticketId);
+        soldOutTicketRegistry.markAvailable(ticketId);
     }
 
     @Test
@@ -72,6 +86,7 @@ class ConcurrencySolutionTest {
 
         assertEquals(0, finalStock);
         assertEquals(INITIAL_STOCK, reservationCount);
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
     }
 
     /**
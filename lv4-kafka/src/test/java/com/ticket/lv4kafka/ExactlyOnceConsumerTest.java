@@ -0,0 +1,150 @@
+package com.ticket.lv4kafka;
+
+import com.ticket.lv4kafka.application.ReservationResultService;
+import com.ticket.lv4kafka.application.SoldOutTicketRegistry;
+import com.ticket.lv4kafka.application.TicketService;
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import com.ticket.lv4kafka.application.dto.ReservationRequest;
+import com.ticket.lv4kafka.domain.Ticket;
+import com.ticket.lv4kafka.infrastructure.ConsumerOffsetRepository;
+import com.ticket.lv4kafka.infrastructure.ReservationRepository;
+import com.ticket.lv4kafka.infrastructure.TicketBuyerFilterRepository;
+import com.ticket.lv4kafka.infrastructure.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LV.4: Exactly-Once Consumer 모드 예매 처리 테스트
+ *
+ * 컨슈머 모드마다 컨텍스트가 따로 캐시되므로, 같은 컨슈머 그룹에 다른 모드의 컨슈머가 남지 않도록 테스트 후 컨텍스트 종료
+ */
+@SpringBootTest(properties = "ticket.consumer.mode=exactly-once")
+@DirtiesContext
+class ExactlyOnceConsumerTest {
+
+    private static final String TOPIC_NAME = "ticket-reservation";
+
+    @Autowired
+    private KafkaTemplate<String, ReservationRequest> kafkaTemplate;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ConsumerOffsetRepository consumerOffsetRepository;
+
+    @Autowired
+    private ReservationResultService reservationResultService;
+
+    @Autowired
+    private TicketBuyerFilterRepository ticketBuyerFilterRepository;
+
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
+    private Long ticketId;
+    private static final int INITIAL_STOCK = 100;
+    private static final int CONCURRENT_USERS = 500;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        ticketRepository.deleteAll();
+
+        Ticket ticket = new Ticket("테스트 콘서트 티켓", INITIAL_STOCK);
+        this.ticketId = ticketRepository.save(ticket).getId();
+        ticketBuyerFilterRepository.delete(ticketId);
+        soldOutTicketRegistry.markAvailable(ticketId);
+    }
+
+    @Test
+    @DisplayName("Exactly-Once Consumer - 100개 티켓을 500명이 동시 예매 (같은 요청 ID 재전송 포함)")
+    void testExactlyOnceReservation() throws InterruptedException {
+        // given: 사용자마다 요청 ID 하나
+        List<ReservationRequest> requests = IntStream.range(0, CONCURRENT_USERS)
+                .mapToObj(i -> new ReservationRequest(ticketId, "user-" + i, UUID.randomUUID().toString()))
+                .toList();
+        final CountDownLatch countDownLatch = new CountDownLatch(CONCURRENT_USERS);
+
+        // when: 같은 요청을 두 번씩 발행 (Producer 재전송 상황)
+        List<Thread> workers = requests.stream()
+                .map(request -> new Thread(() -> {
+                    try {
+                        kafkaTemplate.send(TOPIC_NAME, String.valueOf(ticketId), request);
+                        kafkaTemplate.send(TOPIC_NAME, String.valueOf(ticketId), request);
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                }))
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        waitForReservationProcessing(ticketId, INITIAL_STOCK, 30000);
+
+        // then
+        assertEquals(0, ticketService.getTicket(ticketId).getStock());
+        assertEquals(INITIAL_STOCK, ticketService.getReservationCount(ticketId));
+        assertEquals(INITIAL_STOCK, ticketService.getTicket(ticketId).getReservedCount());
+
+        // 예약된 요청은 재전송된 레코드도 RESERVED로 통지됨 (중복 구매로 거절되지 않음)
+        List<String> reservedRequestIds = reservationRepository.findExistingRequestIds(
+                requests.stream().map(ReservationRequest::getRequestId).toList());
+        assertEquals(INITIAL_STOCK, reservedRequestIds.size());
+        waitForOutcomes(reservedRequestIds, 5000);
+        reservedRequestIds.forEach(requestId ->
+                assertEquals(ReservationOutcome.RESERVED, reservationResultService.getOutcome(requestId)));
+
+        // 처리 위치가 DB에 기록됨
+        assertTrue(consumerOffsetRepository.count() > 0);
+    }
+
+    /**
+     * 결과 통지는 DB 커밋 이후에 수행되므로 재고가 0이 된 직후에는 아직 PENDING일 수 있음
+     */
+    private void waitForOutcomes(List<String> requestIds, long timeoutMs) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+
+        while (System.currentTimeMillis() - startTime < timeoutMs) {
+            if (requestIds.stream().allMatch(requestId -> reservationResultService.getOutcome(requestId).isCompleted())) {
+                return;
+            }
+
+            Thread.sleep(100);
+        }
+    }
+
+    private void waitForReservationProcessing(Long ticketId, int expectedCount, long timeoutMs) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+
+        while (System.currentTimeMillis() - startTime < timeoutMs) {
+            long currentCount = ticketService.getReservationCount(ticketId);
+            int currentStock = ticketService.getTicket(ticketId).getStock();
+
+            if (currentCount >= expectedCount || currentStock == 0) {
+                return;
+            }
+
+            Thread.sleep(100);
+        }
+    }
+}
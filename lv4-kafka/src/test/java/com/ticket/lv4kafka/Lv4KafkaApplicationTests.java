@@ -2,8 +2,10 @@ package com.ticket.lv4kafka;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
 
 @SpringBootTest
+@DirtiesContext
 class Lv4KafkaApplicationTests {
 
     @Test
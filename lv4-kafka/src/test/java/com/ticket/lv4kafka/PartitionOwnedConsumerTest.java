@@ -0,0 +1,175 @@
+package com.ticket.lv4kafka;
+
+import com.ticket.lv4kafka.application.ReservationProducer;
+import com.ticket.lv4kafka.application.ReservationResultService;
+import com.ticket.lv4kafka.application.SoldOutTicketRegistry;
+import com.ticket.lv4kafka.application.TicketService;
+import com.ticket.lv4kafka.application.dto.ReservationOutcome;
+import com.ticket.lv4kafka.domain.Ticket;
+import com.ticket.lv4kafka.infrastructure.ReservationRepository;
+import com.ticket.lv4kafka.infrastructure.TicketBuyerFilterRepository;
+import com.ticket.lv4kafka.infrastructure.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LV.4: Partition-Owned Consumer 모드 예매 처리 테스트
+ *
+ * 컨슈머 모드마다 컨텍스트가 따로 캐시되므로, 같은 컨슈머 그룹에 다른 모드의 컨슈머가 남지 않도록 테스트 후 컨텍스트 종료
+ */
+@SpringBootTest(properties = "ticket.consumer.mode=partition-owned")
+@DirtiesContext
+class PartitionOwnedConsumerTest {
+
+    @Autowired
+    private ReservationProducer reservationProducer;
+
+    @Autowired
+    private ReservationResultService reservationResultService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TicketBuyerFilterRepository ticketBuyerFilterRepository;
+
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
+    private Long ticketId;
+    private static final int INITIAL_STOCK = 100;
+    private static final int CONCURRENT_USERS = 1000;
+    private static final int OUT_OF_BAND_RESERVATIONS = 10;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        ticketRepository.deleteAll();
+
+        Ticket ticket = new Ticket("테스트 콘서트 티켓", INITIAL_STOCK);
+        this.ticketId = ticketRepository.save(ticket).getId();
+        ticketBuyerFilterRepository.delete(ticketId);
+        soldOutTicketRegistry.markAvailable(ticketId);
+    }
+
+    @Test
+    @DisplayName("Kafka Partition-Owned Consumer - 100개 티켓을 1000명이 동시 예매 (중복 요청 + DB 반영 실패 후 상태 재구성)")
+    void testPartitionOwnedReservation() throws InterruptedException {
+        // given: 첫 요청으로 컨슈머가 티켓 상태를 메모리에 구성
+        String warmUpRequestId = reservationProducer.sendReservationRequest(ticketId, "user-warm-up");
+        waitForOutcomes(List.of(warmUpRequestId), 10000);
+
+        // given: 컨슈머를 거치지 않은 예약으로 DB와 메모리 상태를 어긋나게 함 (이전 파티션 소유자가 반영한 예약 등)
+        // 이 사용자들의 요청은 DB 반영에 실패하고, 컨슈머는 실패 후 상태를 DB에서 다시 구성해야 함
+        IntStream.range(0, OUT_OF_BAND_RESERVATIONS)
+                .forEach(i -> ticketService.confirmReservation(ticketId, "user-" + i));
+
+        final int people = CONCURRENT_USERS;
+        final CountDownLatch countDownLatch = new CountDownLatch(people);
+        final ConcurrentLinkedQueue<String> requestIds = new ConcurrentLinkedQueue<>();
+
+        // when: 같은 사용자가 두 번씩 요청하여 메모리 중복 판정도 함께 검증
+        long startTime = System.currentTimeMillis();
+        List<Thread> workers = IntStream.range(0, people)
+                .mapToObj(i -> new Thread(new Worker(ticketId, "user-" + (i / 2), requestIds, countDownLatch)))
+                .toList();
+        workers.forEach(Thread::start);
+        countDownLatch.await();
+
+        waitForReservationProcessing(ticketId, INITIAL_STOCK, 30000);
+        waitForOutcomes(List.copyOf(requestIds), 30000);
+        long duration = System.currentTimeMillis() - startTime;
+
+        // then: 재고만큼만 예약됨
+        Ticket ticket = ticketService.getTicket(ticketId);
+        assertEquals(0, ticket.getStock());
+        assertEquals(INITIAL_STOCK, ticketService.getReservationCount(ticketId));
+        assertEquals(INITIAL_STOCK, ticket.getReservedCount());
+
+        // then: 컨슈머가 예약한 건은 (재고 - 첫 요청 - 컨슈머 밖 예약) 만큼, 중복 요청은 예약되지 않음
+        long reserved = requestIds.stream()
+                .filter(requestId -> reservationResultService.getOutcome(requestId) == ReservationOutcome.RESERVED)
+                .count();
+        assertEquals(INITIAL_STOCK - 1 - OUT_OF_BAND_RESERVATIONS, reserved);
+
+        // then: 상태를 DB에서 다시 구성했으므로 메모리 재고도 0이 되어 매진으로 판정함
+        // (재구성하지 않으면 메모리에는 컨슈머 밖 예약만큼 재고가 남아 매진 판정에 도달하지 않음)
+        assertTrue(soldOutTicketRegistry.isSoldOut(ticketId));
+
+        System.out.printf("[Partition-Owned Consumer] 요청 %d건 처리: %dms%n", people, duration);
+    }
+
+    /**
+     * 결과 통지는 DB 커밋 이후에 수행되므로 재고가 0이 된 직후에는 아직 PENDING일 수 있음
+     */
+    private void waitForOutcomes(List<String> requestIds, long timeoutMs) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+
+        while (System.currentTimeMillis() - startTime < timeoutMs) {
+            if (requestIds.stream().allMatch(requestId -> reservationResultService.getOutcome(requestId).isCompleted())) {
+                return;
+            }
+
+            Thread.sleep(100);
+        }
+    }
+
+    private void waitForReservationProcessing(Long ticketId, int expectedCount, long timeoutMs) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+
+        while (System.currentTimeMillis() - startTime < timeoutMs) {
+            long currentCount = ticketService.getReservationCount(ticketId);
+            int currentStock = ticketService.getTicket(ticketId).getStock();
+
+            if (currentCount >= expectedCount || currentStock == 0) {
+                return;
+            }
+
+            Thread.sleep(100);
+        }
+    }
+
+    /**
+     * Reservation Request Worker
+     */
+    private class Worker implements Runnable {
+        private final Long ticketId;
+        private final String userId;
+        private final ConcurrentLinkedQueue<String> requestIds;
+        private final CountDownLatch countDownLatch;
+
+        public Worker(Long ticketId, String userId, ConcurrentLinkedQueue<String> requestIds, CountDownLatch countDownLatch) {
+            this.ticketId = ticketId;
+            this.userId = userId;
+            this.requestIds = requestIds;
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                requestIds.add(reservationProducer.sendReservationRequest(ticketId, userId));
+            } finally {
+                countDownLatch.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.ticket.lv4kafka;
+
+import com.ticket.lv4kafka.application.dto.ReservationRequest;
+import com.ticket.lv4kafka.infrastructure.ReservationRequestDeserializer;
+import com.ticket.lv4kafka.infrastructure.ReservationRequestSerializer;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 예매 요청 레코드 직렬화 비교 (JSON vs 바이너리)
+ *
+ * - 레코드당 바이트 수: 값 + 헤더 (JSON은 __TypeId__ 헤더 포함)
+ * - 레코드당 Consumer CPU 시간: 역직렬화에 사용한 스레드 CPU 시간
+ */
+class ReservationRequestSerializationBenchmarkTest {
+
+    private static final String TOPIC = "ticket-reservation";
+    private static final int RECORDS = 100_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private final List<ReservationRequest> requests = IntStream.range(0, RECORDS)
+            .mapToObj(i -> new ReservationRequest((long) (i % 100) + 1, "user_" + i, UUID.randomUUID().toString()))
+            .toList();
+
+    @Test
+    @DisplayName("바이너리 포맷 - 직렬화/역직렬화 결과가 원본과 같음")
+    void roundTrip() {
+        ReservationRequestSerializer serializer = new ReservationRequestSerializer();
+        ReservationRequestDeserializer deserializer = new ReservationRequestDeserializer();
+
+        for (ReservationRequest request : List.of(
+                new ReservationRequest(1L, "user_1", UUID.randomUUID().toString()),
+                new ReservationRequest(Long.MAX_VALUE, "사용자_한글", null),
+                new ReservationRequest(300L, "", "request"))) {
+            assertEquals(request, deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, request)));
+        }
+
+        // 전환 전에 JSON으로 발행된 레코드도 읽을 수 있음
+        byte[] json = "{\"ticketId\":1,\"userId\":\"user_1\",\"requestId\":\"r-1\"}".getBytes(StandardCharsets.UTF_8);
+        assertEquals(new ReservationRequest(1L, "user_1", "r-1"), deserializer.deserialize(TOPIC, json));
+    }
+
+    @Test
+    @DisplayName("예매 요청 100,000건 - JSON vs 바이너리 레코드 크기와 역직렬화 CPU 시간")
+    void compareWithJson() {
+        // 1. JSON (기존 설정: 타입 헤더 + TRUSTED_PACKAGES="*")
+        JsonSerializer<ReservationRequest> jsonSerializer = new JsonSerializer<>();
+        JsonDeserializer<ReservationRequest> jsonDeserializer = new JsonDeserializer<>();
+        jsonDeserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.VALUE_DEFAULT_TYPE, ReservationRequest.class.getName()
+        ), false);
+
+        List<Headers> jsonHeaders = requests.stream().map(r -> (Headers) new RecordHeaders()).toList();
+        List<byte[]> jsonRecords = IntStream.range(0, RECORDS)
+                .mapToObj(i -> jsonSerializer.serialize(TOPIC, jsonHeaders.get(i), requests.get(i)))
+                .toList();
+        double jsonBytes = averageBytes(jsonRecords, jsonHeaders);
+
+        // 2. 바이너리
+        ReservationRequestSerializer binarySerializer = new ReservationRequestSerializer();
+        List<Headers> binaryHeaders = requests.stream().map(r -> (Headers) new RecordHeaders()).toList();
+        List<byte[]> binaryRecords = requests.stream()
+                .map(request -> binarySerializer.serialize(TOPIC, request))
+                .toList();
+        double binaryBytes = averageBytes(binaryRecords, binaryHeaders);
+
+        long jsonNanos = measureDeserializeCpu(jsonDeserializer, jsonRecords, jsonHeaders);
+        long binaryNanos = measureDeserializeCpu(new ReservationRequestDeserializer(), binaryRecords, binaryHeaders);
+
+        System.out.printf("[Serialization] JSON: %.1f바이트/건, %.0fns/건 | 바이너리: %.1f바이트/건, %.0fns/건%n",
+                jsonBytes, (double) jsonNanos / RECORDS, binaryBytes, (double) binaryNanos / RECORDS);
+
+        assertTrue(binaryBytes < jsonBytes);
+    }
+
+    private double averageBytes(List<byte[]> records, List<Headers> headers) {
+        long total = 0;
+        for (int i = 0; i < records.size(); i++) {
+            total += records.get(i).length;
+            for (Header header : headers.get(i)) {
+                total += header.key().getBytes(StandardCharsets.UTF_8).length + header.value().length;
+            }
+        }
+        return (double) total / records.size();
+    }
+
+    /**
+     * JIT 워밍업 후 마지막 라운드의 스레드 CPU 시간 측정
+     */
+    private long measureDeserializeCpu(Deserializer<ReservationRequest> deserializer, List<byte[]> records, List<Headers> headers) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        long cpuNanos = 0;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            long startCpu = threadMXBean.getCurrentThreadCpuTime();
+            for (int i = 0; i < records.size(); i++) {
+                ReservationRequest request = deserializer.deserialize(TOPIC, headers.get(i), records.get(i));
+                assertEquals(requests.get(i).getUserId(), request.getUserId());
+            }
+            cpuNanos = threadMXBean.getCurrentThreadCpuTime() - startCpu;
+        }
+        return cpuNanos;
+    }
+}